@@ -0,0 +1,31 @@
+package edu.sombra.coursemanagementsystem.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@EnableCaching
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String COURSES = "courses";
+    public static final String COURSES_BY_NAME = "coursesByName";
+    public static final String LESSONS = "lessons";
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        if (StringUtils.hasText(cacheProperties.getCaffeine().getSpec())) {
+            caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -8,10 +8,14 @@ import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
 import edu.sombra.coursemanagementsystem.service.CourseService;
+import edu.sombra.coursemanagementsystem.service.ExportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,7 +26,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +37,7 @@ import java.util.List;
 @RequestMapping("/api/v1/course")
 public class CourseController {
     private final CourseService courseService;
+    private final ExportService exportService;
 
     @PostMapping("/create")
     public ResponseEntity<CourseResponseDTO> createCourse(@RequestBody CourseDTO courseDTO) {
@@ -48,8 +55,18 @@ public class CourseController {
     }
 
     @GetMapping("/find-all")
-    public ResponseEntity<List<CourseResponseDTO>> findAll() {
-        return ResponseEntity.ok(courseService.findAllCourses());
+    public ResponseEntity<List<CourseResponseDTO>> findAll(@RequestParam(required = false) Long after,
+                                                           @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<CourseResponseDTO> page = courseService.findAllCourses(after, limit);
+        return ResponseEntity.ok().headers(page.toHeaders()).body(page.getItems());
+    }
+
+    @GetMapping("/marks/export")
+    public ResponseEntity<StreamingResponseBody> exportCourseMarks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"course-marks.ndjson\"")
+                .body(exportService::exportCourseMarks);
     }
 
     @DeleteMapping("/{id}")
@@ -2,6 +2,7 @@ package edu.sombra.coursemanagementsystem.controller;
 
 import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.service.CourseFeedbackService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -39,8 +41,10 @@ public class CourseFeedbackController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GetCourseFeedbackDTO>> getAllFeedbacks() {
-        return ResponseEntity.ok(courseFeedbackService.findAll());
+    public ResponseEntity<List<GetCourseFeedbackDTO>> getAllFeedbacks(@RequestParam(required = false) Long after,
+                                                                      @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<GetCourseFeedbackDTO> page = courseFeedbackService.findAll(after, limit);
+        return ResponseEntity.ok().headers(page.toHeaders()).body(page.getItems());
     }
 
     @GetMapping("/{id}")
@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.controller;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentApplyForCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetByNameDTO;
@@ -34,6 +36,11 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollmentService.assignInstructor(enrollmentDTO.getCourseName(), enrollmentDTO.getUserEmail()));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkEnrollmentResponseDTO> bulkEnroll(@RequestBody BulkEnrollmentDTO bulkEnrollmentDTO) {
+        return ResponseEntity.ok(enrollmentService.bulkEnroll(bulkEnrollmentDTO));
+    }
+
     @PostMapping("/user/apply")
     public ResponseEntity<EnrollmentResponseDTO> applyForCourse(@RequestBody EnrollmentApplyForCourseDTO applyForCourseDTO,
                                                  @AuthenticationPrincipal UserDetails userDetails) {
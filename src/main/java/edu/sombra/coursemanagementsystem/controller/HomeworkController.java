@@ -3,8 +3,13 @@ package edu.sombra.coursemanagementsystem.controller;
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkByLessonDTO;
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
 import edu.sombra.coursemanagementsystem.dto.homework.HomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkMarkDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
+import edu.sombra.coursemanagementsystem.service.ExportService;
 import edu.sombra.coursemanagementsystem.service.HomeworkService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,7 +20,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,12 +31,19 @@ import java.util.List;
 @RequestMapping("/api/v1/homework")
 public class HomeworkController {
     private final HomeworkService homeworkService;
+    private final ExportService exportService;
 
     @PutMapping("/mark")
     public ResponseEntity<GetHomeworkDTO> setMark(@RequestBody HomeworkDTO homeworkDTO) {
         return ResponseEntity.ok(homeworkService.setMark(homeworkDTO.getUserId(), homeworkDTO.getHomeworkId(), homeworkDTO.getMark()));
     }
 
+    @PutMapping("/marks")
+    public ResponseEntity<List<GetHomeworkDTO>> setMarks(@RequestBody List<HomeworkMarkDTO> marks,
+                                                         @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(homeworkService.setMarks(marks, userDetails.getUsername()));
+    }
+
     @GetMapping("/{homeworkId}")
     public ResponseEntity<GetHomeworkDTO> getHomework(@PathVariable Long homeworkId,
                                                       @AuthenticationPrincipal UserDetails userDetails) {
@@ -37,8 +51,19 @@ public class HomeworkController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GetHomeworkDTO>> getAllHomeworks(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(homeworkService.getAllHomeworks(userDetails.getUsername()));
+    public ResponseEntity<List<GetHomeworkDTO>> getAllHomeworks(@AuthenticationPrincipal UserDetails userDetails,
+                                                                @RequestParam(required = false) Long after,
+                                                                @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<GetHomeworkDTO> page = homeworkService.getAllHomeworks(userDetails.getUsername(), after, limit);
+        return ResponseEntity.ok().headers(page.toHeaders()).body(page.getItems());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportHomeworks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"homeworks.ndjson\"")
+                .body(exportService::exportHomeworks);
     }
 
     @PostMapping
@@ -3,6 +3,7 @@ package edu.sombra.coursemanagementsystem.controller;
 import edu.sombra.coursemanagementsystem.dto.lesson.CreateLessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.UpdateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.service.LessonService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -44,8 +46,11 @@ public class LessonController {
     }
 
     @GetMapping("/find-all")
-    public ResponseEntity<List<LessonResponseDTO>> getAllLessons(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(lessonService.findAllLessons(userDetails.getUsername()));
+    public ResponseEntity<List<LessonResponseDTO>> getAllLessons(@AuthenticationPrincipal UserDetails userDetails,
+                                                                 @RequestParam(required = false) Long after,
+                                                                 @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<LessonResponseDTO> page = lessonService.findAllLessons(userDetails.getUsername(), after, limit);
+        return ResponseEntity.ok().headers(page.toHeaders()).body(page.getItems());
     }
 
     @GetMapping("/find-all/{id}")
@@ -1,5 +1,6 @@
 package edu.sombra.coursemanagementsystem.controller;
 
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.CreateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.ResetPasswordDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -61,8 +63,10 @@ public class UserController {
     }
 
     @GetMapping("/find-all")
-    public ResponseEntity<List<UserResponseDTO>> findAll() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    public ResponseEntity<List<UserResponseDTO>> findAll(@RequestParam(required = false) Long after,
+                                                         @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        CursorPage<UserResponseDTO> page = userService.findAllUsers(after, limit);
+        return ResponseEntity.ok().headers(page.toHeaders()).body(page.getItems());
     }
 
     @DeleteMapping("/{id}")
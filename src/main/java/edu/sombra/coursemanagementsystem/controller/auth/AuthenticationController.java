@@ -2,25 +2,33 @@ package edu.sombra.coursemanagementsystem.controller.auth;
 
 import edu.sombra.coursemanagementsystem.dto.auth.AuthenticationDTO;
 import edu.sombra.coursemanagementsystem.dto.auth.AuthenticationResponse;
+import edu.sombra.coursemanagementsystem.dto.auth.JwksDTO;
 import edu.sombra.coursemanagementsystem.dto.auth.RegisterDTO;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtKeys;
 import edu.sombra.coursemanagementsystem.service.auth.AuthenticateService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(("/api/v1/auth"))
 public class AuthenticationController {
+    private static final long JWKS_MAX_AGE_MINUTES = 5;
+
     private final AuthenticateService authenticateService;
+    private final JwtKeys jwtKeys;
 
     @PostMapping("/authenticate")
     public ResponseEntity<AuthenticationResponse> authenticate(@RequestBody AuthenticationDTO authenticationDTO) {
@@ -36,4 +44,11 @@ public class AuthenticationController {
     public void refreshJWTToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
         authenticateService.refreshToken(request, response);
     }
+
+    @GetMapping("/jwks")
+    public ResponseEntity<JwksDTO> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE_MINUTES, TimeUnit.MINUTES).cachePublic())
+                .body(jwtKeys.toJwks());
+    }
 }
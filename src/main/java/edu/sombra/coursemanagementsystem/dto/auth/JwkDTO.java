@@ -0,0 +1,20 @@
+package edu.sombra.coursemanagementsystem.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JwkDTO {
+    private String kty;
+    private String crv;
+    private String kid;
+    private String use;
+    private String alg;
+    private String x;
+    private String y;
+}
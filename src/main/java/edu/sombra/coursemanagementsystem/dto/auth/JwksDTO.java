@@ -0,0 +1,14 @@
+package edu.sombra.coursemanagementsystem.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JwksDTO {
+    private List<JwkDTO> keys;
+}
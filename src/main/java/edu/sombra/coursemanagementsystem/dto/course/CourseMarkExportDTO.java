@@ -0,0 +1,22 @@
+package edu.sombra.coursemanagementsystem.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourseMarkExportDTO {
+    private Long id;
+    private Long userId;
+    private String userEmail;
+    private Long courseId;
+    private String courseName;
+    private BigDecimal totalScore;
+    private Boolean passed;
+}
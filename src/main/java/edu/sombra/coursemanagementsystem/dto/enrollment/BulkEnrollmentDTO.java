@@ -0,0 +1,17 @@
+package edu.sombra.coursemanagementsystem.dto.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentDTO {
+    private String courseName;
+    private List<Long> userIds;
+}
@@ -0,0 +1,19 @@
+package edu.sombra.coursemanagementsystem.dto.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResponseDTO {
+    private Long courseId;
+    private String courseName;
+    private List<Long> enrolledUserIds;
+    private List<Long> skippedUserIds;
+}
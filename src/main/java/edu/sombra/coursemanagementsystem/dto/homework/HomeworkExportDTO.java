@@ -0,0 +1,23 @@
+package edu.sombra.coursemanagementsystem.dto.homework;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HomeworkExportDTO {
+    private Long id;
+    private Long mark;
+    private Long userId;
+    private String userEmail;
+    private Long lessonId;
+    private String lessonName;
+    private Long courseId;
+    private String courseName;
+    private Long fileId;
+    private String fileName;
+}
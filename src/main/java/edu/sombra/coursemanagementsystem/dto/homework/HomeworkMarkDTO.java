@@ -0,0 +1,15 @@
+package edu.sombra.coursemanagementsystem.dto.homework;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HomeworkMarkDTO {
+    private Long homeworkId;
+    private Long mark;
+}
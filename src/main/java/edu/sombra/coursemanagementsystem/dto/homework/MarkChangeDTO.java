@@ -0,0 +1,26 @@
+package edu.sombra.coursemanagementsystem.dto.homework;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MarkChangeDTO {
+    private Long homeworkId;
+    private Long userId;
+    private Long courseId;
+    private Long previousMark;
+    private Long mark;
+
+    public long getMarkSumDelta() {
+        return mark - (previousMark == null ? 0 : previousMark);
+    }
+
+    public long getGradedCountDelta() {
+        return previousMark == null ? 1 : 0;
+    }
+}
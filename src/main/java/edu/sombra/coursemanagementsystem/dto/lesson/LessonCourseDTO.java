@@ -0,0 +1,22 @@
+package edu.sombra.coursemanagementsystem.dto.lesson;
+
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LessonCourseDTO {
+    private Long lessonId;
+    private String lessonName;
+    private Long courseId;
+    private String courseName;
+    private CourseStatus courseStatus;
+    private LocalDate courseStartDate;
+}
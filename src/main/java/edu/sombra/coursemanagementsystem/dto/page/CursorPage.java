@@ -0,0 +1,45 @@
+package edu.sombra.coursemanagementsystem.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DEFAULT_LIMIT = "100";
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<T> items;
+    private final Long nextCursor;
+
+    public static int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static <T> CursorPage<T> lastPage(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+
+    public static <E, T> CursorPage<T> of(List<E> entities, int limit,
+                                          Function<E, Long> idExtractor,
+                                          Function<List<E>, List<T>> mapper) {
+        if (entities.size() <= limit) {
+            return lastPage(mapper.apply(entities));
+        }
+        List<E> page = entities.subList(0, limit);
+        return new CursorPage<>(mapper.apply(page), idExtractor.apply(page.get(limit - 1)));
+    }
+
+    public HttpHeaders toHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.add(NEXT_CURSOR_HEADER, nextCursor.toString());
+        }
+        return headers;
+    }
+}
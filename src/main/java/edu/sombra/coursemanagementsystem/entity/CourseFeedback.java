@@ -2,11 +2,15 @@ package edu.sombra.coursemanagementsystem.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,24 +22,29 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table
+@NamedEntityGraph(name = CourseFeedback.DETAILS_GRAPH,
+        attributeNodes = {@NamedAttributeNode("course"), @NamedAttributeNode("instructor"), @NamedAttributeNode("student")})
 @Entity(name = "course_feedback")
 public class CourseFeedback {
+    public static final String DETAILS_GRAPH = "course_feedback.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_feedback_id_seq")
+    @SequenceGenerator(name = "course_feedback_id_seq", sequenceName = "course_feedback_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "feedback_text")
     private String feedbackText;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", referencedColumnName = "id")
     private Course course;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "instructor_id", referencedColumnName = "id")
     private User instructor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", referencedColumnName = "id")
     private User student;
 }
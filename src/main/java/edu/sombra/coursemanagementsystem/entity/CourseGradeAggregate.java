@@ -0,0 +1,49 @@
+package edu.sombra.coursemanagementsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Table
+@Entity(name = "course_grade_aggregates")
+public class CourseGradeAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_grade_aggregates_id_seq")
+    @SequenceGenerator(name = "course_grade_aggregates_id_seq", sequenceName = "course_grade_aggregates_id_seq", allocationSize = 50)
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id")
+    private User user;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", referencedColumnName = "id")
+    private Course course;
+    @Column(name = "mark_sum")
+    private Long markSum;
+    @Column(name = "graded_count")
+    private Long gradedCount;
+    @Column(name = "ungraded_count")
+    private Long ungradedCount;
+
+    public Double getAverageMark() {
+        return gradedCount == null || gradedCount == 0 ? null : (double) markSum / gradedCount;
+    }
+
+    public boolean isAllHomeworksGraded() {
+        return ungradedCount != null && ungradedCount == 0;
+    }
+}
@@ -2,11 +2,15 @@ package edu.sombra.coursemanagementsystem.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,17 +24,22 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @Data
 @Table
+@NamedEntityGraph(name = CourseMark.DETAILS_GRAPH,
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("course")})
 @Entity(name = "user_course_marks")
 public class CourseMark {
+    public static final String DETAILS_GRAPH = "user_course_marks.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_course_marks_id_seq")
+    @SequenceGenerator(name = "user_course_marks_id_seq", sequenceName = "user_course_marks_id_seq", allocationSize = 50)
     private Long id;
     @Column(name = "total_score")
     private BigDecimal totalScore;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", referencedColumnName = "id")
     private Course course;
     private Boolean passed;
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,12 +21,16 @@ import lombok.NoArgsConstructor;
 @Entity(name = "files")
 public class File {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "files_id_seq")
+    @SequenceGenerator(name = "files_id_seq", sequenceName = "files_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "file_name")
     private String fileName;
 
-    @Column(name = "file_data")
-    private byte[] fileData;
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "content_hash")
+    private String contentHash;
 }
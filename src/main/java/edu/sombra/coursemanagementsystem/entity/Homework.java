@@ -1,11 +1,16 @@
 package edu.sombra.coursemanagementsystem.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,19 +22,29 @@ import lombok.NoArgsConstructor;
 @Builder
 @Data
 @Table
+@NamedEntityGraph(name = Homework.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("file"),
+                @NamedAttributeNode(value = "lesson", subgraph = "lesson")
+        },
+        subgraphs = @NamedSubgraph(name = "lesson", attributeNodes = @NamedAttributeNode("course")))
 @Entity(name = "homework")
 public class Homework {
+    public static final String DETAILS_GRAPH = "homework.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "homework_id_seq")
+    @SequenceGenerator(name = "homework_id_seq", sequenceName = "homework_id_seq", allocationSize = 50)
     private Long id;
     private Long mark;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "file_id", referencedColumnName = "id")
     private File file;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lesson_id", referencedColumnName = "id")
     private Lesson lesson;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
 }
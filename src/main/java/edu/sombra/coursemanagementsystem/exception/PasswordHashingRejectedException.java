@@ -0,0 +1,8 @@
+package edu.sombra.coursemanagementsystem.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("Too many concurrent sign-in requests, please retry later");
+    }
+}
@@ -1,7 +1,9 @@
 package edu.sombra.coursemanagementsystem.mapper;
 
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -23,7 +25,7 @@ public class CourseFeedbackMapper {
                 .studentEmail(feedback.getStudent().getEmail())
                 .instructorId(feedback.getInstructor().getId())
                 .instructorEmail(feedback.getInstructor().getEmail())
-                .course(feedback.getCourse())
+                .course(Hibernate.unproxy(feedback.getCourse(), Course.class))
                 .build();
     }
 }
@@ -3,7 +3,6 @@ package edu.sombra.coursemanagementsystem.mapper;
 import edu.sombra.coursemanagementsystem.dto.course.CourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
-import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
@@ -28,15 +27,6 @@ public class CourseMapper {
                 .build();
     }
 
-    public Course fromDTO(UpdateCourseDTO courseDTO) {
-        return Course.builder()
-                .id(courseDTO.getId())
-                .name(courseDTO.getName())
-                .startDate(courseDTO.getStartDate())
-                .status(courseDTO.getStatus())
-                .build();
-    }
-
     public Course fromCourseDTO(CourseDTO courseDTO) {
         return Course.builder()
                 .name(courseDTO.getName())
@@ -1,7 +1,9 @@
 package edu.sombra.coursemanagementsystem.mapper;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseMarkResponseDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseMark;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,7 +17,7 @@ public class CourseMarkMapper {
                 .userId(courseMark.getUser().getId())
                 .userEmail(courseMark.getUser().getEmail())
                 .totalScore(courseMark.getTotalScore())
-                .course(courseMark.getCourse())
+                .course(Hibernate.unproxy(courseMark.getCourse(), Course.class))
                 .build();
     }
 }
@@ -2,8 +2,11 @@ package edu.sombra.coursemanagementsystem.mapper;
 
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
 import edu.sombra.coursemanagementsystem.dto.homework.HomeworkWithFileDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Homework;
+import edu.sombra.coursemanagementsystem.entity.Lesson;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -30,9 +33,20 @@ public class HomeworkMapper {
                 .id(homework.getId())
                 .mark(homework.getMark())
                 .fileName(homework.getFile() != null ? homework.getFile().getFileName() : null)
-                .lesson(homework.getLesson())
+                .lesson(detachLesson(homework.getLesson()))
                 .userEmail(homework.getUser().getEmail())
                 .userId(homework.getUser().getId())
                 .build();
     }
+
+    private Lesson detachLesson(Lesson lesson) {
+        if (lesson == null) {
+            return null;
+        }
+        return Lesson.builder()
+                .id(lesson.getId())
+                .name(lesson.getName())
+                .course(Hibernate.unproxy(lesson.getCourse(), Course.class))
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package edu.sombra.coursemanagementsystem.mapper;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.entity.Homework;
@@ -8,9 +9,10 @@ import edu.sombra.coursemanagementsystem.entity.Lesson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
 @Component
@@ -33,9 +35,19 @@ public class LessonMapper {
                 .build();
     }
 
-    public List<LessonResponseDTO> mapToResponsesDTO(List<Lesson> lessons, List<CourseResponseDTO> courseResponseDTOs) {
-        return IntStream.range(0, Math.min(lessons.size(), courseResponseDTOs.size()))
-                .mapToObj(i -> mapToResponseDTO(lessons.get(i), courseResponseDTOs.get(i)))
+    public List<LessonResponseDTO> mapToResponsesDTO(List<LessonCourseDTO> lessonCourses) {
+        Map<Long, CourseResponseDTO> courses = new HashMap<>();
+        return lessonCourses.stream()
+                .map(lessonCourse -> LessonResponseDTO.builder()
+                        .id(lessonCourse.getLessonId())
+                        .name(lessonCourse.getLessonName())
+                        .course(courses.computeIfAbsent(lessonCourse.getCourseId(), courseId -> CourseResponseDTO.builder()
+                                .courseId(courseId)
+                                .courseName(lessonCourse.getCourseName())
+                                .status(lessonCourse.getCourseStatus())
+                                .startDate(lessonCourse.getCourseStartDate())
+                                .build()))
+                        .build())
                 .toList();
     }
 }
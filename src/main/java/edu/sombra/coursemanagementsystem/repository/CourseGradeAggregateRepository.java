@@ -0,0 +1,9 @@
+package edu.sombra.coursemanagementsystem.repository;
+
+import edu.sombra.coursemanagementsystem.entity.CourseGradeAggregate;
+import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
+
+public interface CourseGradeAggregateRepository extends BaseRepository<CourseGradeAggregate, Long> {
+    CourseGradeAggregate applyDelta(Long userId, Long courseId, long markSumDelta, long gradedCountDelta, long ungradedCountDelta);
+    int subtractLessonHomeworks(Long lessonId);
+}
@@ -1,11 +1,14 @@
 package edu.sombra.coursemanagementsystem.repository;
 
+import edu.sombra.coursemanagementsystem.dto.course.CourseMarkExportDTO;
 import edu.sombra.coursemanagementsystem.entity.CourseMark;
 import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CourseMarkRepository extends BaseRepository<CourseMark, Long> {
     Optional<CourseMark> findCourseMarkByUserIdAndCourseId(Long userId, Long courseId);
     void upsert(CourseMark courseMark);
+    Stream<CourseMarkExportDTO> streamAllForExport(int fetchSize);
 }
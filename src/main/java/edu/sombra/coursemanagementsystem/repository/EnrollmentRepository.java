@@ -6,14 +6,24 @@ import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
 import jakarta.persistence.Tuple;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface EnrollmentRepository extends BaseRepository<Enrollment, Long> {
     boolean isUserAssignedToCourse(Course course, User user);
+
+    boolean isUserAssignedToHomeworkCourse(Long userId, Long homeworkId);
+
+    Set<Long> findCourseIdsByUserId(Long userId);
     List<Tuple> findEnrollmentByCourseName(String name);
     Long getUserRegisteredCourseCount(Long userId);
     List<Course> findCoursesByUserId(Long id);
     Course findCourseByEnrollmentId(Long id);
     List<User> findAssignedInstructorsForCourse(Long id);
     User findUserByEnrollmentId(Long id);
+    Map<Long, Long> getUserRegisteredCourseCounts(Collection<Long> userIds);
+    Set<Long> findUserIdsAssignedToCourse(Long courseId, Collection<Long> userIds);
+    List<Long> enrollUsers(Collection<Long> userIds, Long courseId);
 }
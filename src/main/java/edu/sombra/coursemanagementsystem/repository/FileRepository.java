@@ -3,6 +3,20 @@ package edu.sombra.coursemanagementsystem.repository;
 import edu.sombra.coursemanagementsystem.entity.File;
 import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface FileRepository extends BaseRepository<File, Long> {
 
+    void saveFileData(Long fileId, InputStream inputStream, long size);
+
+    byte[] readFileData(Long fileId, long offset, int length);
+
+    List<File> findFilesStoredInDatabase(int limit);
+
+    void markFileDataMoved(Long fileId, String contentHash);
+
+    Set<String> findExistingContentHashes(Collection<String> contentHashes);
 }
@@ -1,19 +1,32 @@
 package edu.sombra.coursemanagementsystem.repository;
 
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface HomeworkRepository extends BaseRepository<Homework, Long> {
-    void setMark(Long homeworkId, Long mark);
+    Optional<MarkChangeDTO> setMark(Long homeworkId, Long mark);
+
+    List<MarkChangeDTO> setMarks(Map<Long, Long> marksByHomeworkId);
+
+    Map<Long, Long> findCourseIdsByHomeworkIds(Collection<Long> homeworkIds);
+
+    List<Homework> findAllByIds(Collection<Long> homeworkIds);
 
     Double calculateAverageHomeworksMarkByUserId(Long userId, Long courseId);
 
     Optional<Homework> findByUserAndLessonId(Long userId, Long lessonId);
 
-    void assignUserForLesson(Long userId, Long lessonId);
+    Map<Long, Homework> findAllByUserAndCourseId(Long userId, Long courseId);
+
+    int assignUsersToCourseLessons(Collection<Long> userIds, Long courseId);
 
     List<Homework> findHomeworksByCourse(Long courseId);
 
@@ -22,4 +35,6 @@ public interface HomeworkRepository extends BaseRepository<Homework, Long> {
     List<Homework> findAllByUser(Long userId);
 
     List<Homework> findAllHomeworksWithInstructorAccess(Long userId);
+
+    Stream<HomeworkExportDTO> streamAllForExport(int fetchSize);
 }
@@ -1,5 +1,6 @@
 package edu.sombra.coursemanagementsystem.repository;
 
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.repository.base.BaseRepository;
 
@@ -10,5 +11,9 @@ public interface LessonRepository extends BaseRepository<Lesson, Long> {
     List<Lesson> findAllByCourseId(Long courseId);
     Optional<Lesson> findLessonByHomeworkId(Long homeworkId);
 
-    List<Lesson> findAllLessonsByUserId(Long id);
+    List<LessonCourseDTO> findLessonCoursesByCourseId(Long courseId);
+
+    List<LessonCourseDTO> findLessonCoursesByUserId(Long userId);
+
+    List<LessonCourseDTO> findLessonCoursesAfter(Long after, int limit);
 }
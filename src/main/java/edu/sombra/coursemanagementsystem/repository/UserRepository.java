@@ -11,4 +11,6 @@ public interface UserRepository extends BaseRepository<User, Long> {
     User findUserByEmail(String email);
     void updateRoleByEmail(String email, RoleEnum role);
     List<User> findUsersByEmails(List<String> emails);
+    Long findTokenVersion(Long userId);
+    Long incrementTokenVersion(Long userId);
 }
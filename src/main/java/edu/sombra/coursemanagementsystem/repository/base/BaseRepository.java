@@ -1,31 +1,47 @@
 package edu.sombra.coursemanagementsystem.repository.base;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
 @NoRepositoryBean
 public interface BaseRepository<T, ID> {
-
     EntityManager getEntityManager();
 
     Class<T> getEntityClass();
 
+    default String getFetchGraphName() {
+        return null;
+    }
+
+    default TypedQuery<T> withFetchGraph(TypedQuery<T> query) {
+        String fetchGraphName = getFetchGraphName();
+        return fetchGraphName == null
+                ? query
+                : query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, getEntityManager().getEntityGraph(fetchGraphName));
+    }
+
     default T save(T entity) {
         getEntityManager().persist(entity);
         return entity;
     }
 
     default List<T> saveAll(List<T> entities) {
-        for (T entity : entities) {
-            getEntityManager().persist(entity);
-        }
+        EntityManager entityManager = getEntityManager();
+        entities.forEach(entityManager::persist);
         return entities;
     }
 
+    default void flush() {
+        getEntityManager().flush();
+    }
+
     default T update(T entity) {
         return getEntityManager().merge(entity);
     }
@@ -35,16 +51,29 @@ public interface BaseRepository<T, ID> {
     }
 
     default Optional<T> findById(ID id) {
-        T entity = getEntityManager().find(getEntityClass(), id);
+        String fetchGraphName = getFetchGraphName();
+        Map<String, Object> hints = fetchGraphName == null
+                ? Map.of()
+                : Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, getEntityManager().getEntityGraph(fetchGraphName));
+        T entity = getEntityManager().find(getEntityClass(), id, hints);
         return Optional.ofNullable(entity);
     }
 
     default List<T> findAll() {
-        return getEntityManager()
-                .createQuery("SELECT e FROM " + getEntityClass().getName() + " e", getEntityClass())
+        return withFetchGraph(getEntityManager()
+                .createQuery("SELECT e FROM " + getEntityClass().getName() + " e", getEntityClass()))
                 .getResultList();
     }
 
+    default List<T> findAllAfter(ID after, int limit) {
+        String entityName = getEntityClass().getName();
+        TypedQuery<T> query = after == null
+                ? getEntityManager().createQuery("SELECT e FROM " + entityName + " e ORDER BY e.id", getEntityClass())
+                : getEntityManager().createQuery("SELECT e FROM " + entityName + " e WHERE e.id > :after ORDER BY e.id", getEntityClass())
+                .setParameter("after", after);
+        return withFetchGraph(query).setMaxResults(limit).getResultList();
+    }
+
     default boolean existsById(ID id) {
         return findById(id).isPresent();
     }
@@ -39,4 +39,10 @@ public class CourseFeedbackRepositoryImpl implements CourseFeedbackRepository {
     public Class<CourseFeedback> getEntityClass() {
         return CourseFeedback.class;
     }
+
+    @Generated
+    @Override
+    public String getFetchGraphName() {
+        return CourseFeedback.DETAILS_GRAPH;
+    }
 }
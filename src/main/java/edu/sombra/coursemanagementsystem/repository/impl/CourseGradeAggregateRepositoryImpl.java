@@ -0,0 +1,67 @@
+package edu.sombra.coursemanagementsystem.repository.impl;
+
+import edu.sombra.coursemanagementsystem.entity.CourseGradeAggregate;
+import edu.sombra.coursemanagementsystem.repository.CourseGradeAggregateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import lombok.AllArgsConstructor;
+import lombok.Generated;
+import lombok.Getter;
+import org.springframework.stereotype.Repository;
+
+@AllArgsConstructor
+@Repository
+public class CourseGradeAggregateRepositoryImpl implements CourseGradeAggregateRepository {
+    @PersistenceContext
+    @Getter
+    private EntityManager entityManager;
+    private static final String SQL_APPLY_DELTA = "INSERT INTO course_grade_aggregates (user_id, course_id, mark_sum, graded_count, ungraded_count) " +
+            " VALUES (:userId, :courseId, :markSum, :gradedCount, :ungradedCount)" +
+            " ON CONFLICT (user_id, course_id) " +
+            " DO UPDATE " +
+            "   SET mark_sum = course_grade_aggregates.mark_sum + EXCLUDED.mark_sum, " +
+            "       graded_count = course_grade_aggregates.graded_count + EXCLUDED.graded_count, " +
+            "       ungraded_count = course_grade_aggregates.ungraded_count + EXCLUDED.ungraded_count" +
+            " RETURNING id, mark_sum, graded_count, ungraded_count";
+    private static final String SQL_SUBTRACT_LESSON_HOMEWORKS = "UPDATE course_grade_aggregates a" +
+            " SET mark_sum = a.mark_sum - d.mark_sum, " +
+            "     graded_count = a.graded_count - d.graded_count, " +
+            "     ungraded_count = a.ungraded_count - d.ungraded_count" +
+            " FROM (SELECT h.user_id, l.course_id, COALESCE(SUM(h.mark), 0) AS mark_sum, COUNT(h.mark) AS graded_count, " +
+            "             COUNT(*) - COUNT(h.mark) AS ungraded_count" +
+            "       FROM homework h JOIN lessons l ON l.id = h.lesson_id" +
+            "       WHERE h.lesson_id = :lessonId" +
+            "       GROUP BY h.user_id, l.course_id) d" +
+            " WHERE a.user_id = d.user_id AND a.course_id = d.course_id";
+
+    @Generated
+    @Override
+    public Class<CourseGradeAggregate> getEntityClass() {
+        return CourseGradeAggregate.class;
+    }
+
+    @Override
+    public CourseGradeAggregate applyDelta(Long userId, Long courseId, long markSumDelta, long gradedCountDelta, long ungradedCountDelta) {
+        Tuple aggregate = (Tuple) getEntityManager().createNativeQuery(SQL_APPLY_DELTA, Tuple.class)
+                .setParameter("userId", userId)
+                .setParameter("courseId", courseId)
+                .setParameter("markSum", markSumDelta)
+                .setParameter("gradedCount", gradedCountDelta)
+                .setParameter("ungradedCount", ungradedCountDelta)
+                .getSingleResult();
+        return CourseGradeAggregate.builder()
+                .id(aggregate.get("id", Long.class))
+                .markSum(aggregate.get("mark_sum", Long.class))
+                .gradedCount(aggregate.get("graded_count", Long.class))
+                .ungradedCount(aggregate.get("ungraded_count", Long.class))
+                .build();
+    }
+
+    @Override
+    public int subtractLessonHomeworks(Long lessonId) {
+        return getEntityManager().createNativeQuery(SQL_SUBTRACT_LESSON_HOMEWORKS)
+                .setParameter("lessonId", lessonId)
+                .executeUpdate();
+    }
+}
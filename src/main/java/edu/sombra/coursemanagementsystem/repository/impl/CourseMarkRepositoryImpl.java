@@ -1,5 +1,6 @@
 package edu.sombra.coursemanagementsystem.repository.impl;
 
+import edu.sombra.coursemanagementsystem.dto.course.CourseMarkExportDTO;
 import edu.sombra.coursemanagementsystem.entity.CourseMark;
 import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
 import jakarta.persistence.EntityManager;
@@ -8,9 +9,11 @@ import jakarta.persistence.PersistenceContext;
 import lombok.AllArgsConstructor;
 import lombok.Generated;
 import lombok.Getter;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 @Repository
@@ -26,6 +29,10 @@ public class CourseMarkRepositoryImpl implements CourseMarkRepository {
             "       passed = EXCLUDED.passed; ";
     private static final String GET_ELEMENTS_BY_USER_ID_AND_COURSE_ID = "SELECT u FROM user_course_marks u" +
             " WHERE u.course.id = :courseId AND u.user.id = :userId";
+    private static final String GET_COURSE_MARKS_FOR_EXPORT = "SELECT new edu.sombra.coursemanagementsystem.dto.course.CourseMarkExportDTO(" +
+            "m.id, u.id, u.email, c.id, c.name, m.totalScore, m.passed) " +
+            "FROM user_course_marks m LEFT JOIN m.user u LEFT JOIN m.course c " +
+            "ORDER BY m.id";
 
     @Generated
     @Override
@@ -33,6 +40,12 @@ public class CourseMarkRepositoryImpl implements CourseMarkRepository {
         return CourseMark.class;
     }
 
+    @Generated
+    @Override
+    public String getFetchGraphName() {
+        return CourseMark.DETAILS_GRAPH;
+    }
+
     public Optional<CourseMark> findCourseMarkByUserIdAndCourseId(Long userId, Long courseId) {
         try {
             CourseMark courseMark = getEntityManager()
@@ -55,4 +68,12 @@ public class CourseMarkRepositoryImpl implements CourseMarkRepository {
                 .setParameter(4, courseMark.getPassed())
                 .executeUpdate();
     }
+
+    @Override
+    public Stream<CourseMarkExportDTO> streamAllForExport(int fetchSize) {
+        return getEntityManager().createQuery(GET_COURSE_MARKS_FOR_EXPORT, CourseMarkExportDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
 }
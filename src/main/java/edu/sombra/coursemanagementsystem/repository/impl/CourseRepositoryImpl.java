@@ -6,7 +6,6 @@ import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import lombok.Getter;
 import org.springframework.stereotype.Repository;
@@ -31,13 +30,12 @@ public class CourseRepositoryImpl implements CourseRepository {
     private static final String GET_ALL_USERS_IN_COURSE = "SELECT u FROM courses c INNER JOIN enrollments e on c.id = e.course.id " +
             "INNER JOIN users u on u.id = e.user.id WHERE c.id =: courseId";
 
-    private static final String GET_LESSONS_BY_USER_ID_AND_COURSE_ID = "SELECT l FROM courses c " +
-            "INNER JOIN lessons l on c.id = l.course.id INNER JOIN enrollments e on c.id = e.course.id " +
+    private static final String GET_LESSONS_BY_USER_ID_AND_COURSE_ID = "SELECT l FROM lessons l " +
+            "JOIN FETCH l.course c INNER JOIN enrollments e on c.id = e.course.id " +
             "WHERE c.id = :courseId AND e.user.id =: userId";
 
-    private static final String GET_COURSE_BY_USER_ID_AND_COURSE_ID = "SELECT c FROM courses c " +
-            "INNER JOIN enrollments e on c.id = e.course.id INNER JOIN users u on u.id = e.user.id " +
-            "WHERE u.id =: userId AND c.id =: courseId";
+    private static final String IS_USER_ASSIGNED_TO_COURSE = "SELECT CASE WHEN EXISTS (SELECT 1 FROM enrollments e " +
+            "WHERE e.user.id = :userId AND e.course.id = :courseId) THEN true ELSE false END";
 
     private static final String FIND_COURSE_BY_NAME_QUERY = "SELECT c FROM courses c WHERE c.name = :name";
 
@@ -46,7 +44,7 @@ public class CourseRepositoryImpl implements CourseRepository {
     private static final String GET_USERS_IN_COURSE_BY_ROLE = "SELECT u FROM courses c INNER JOIN enrollments e on c.id = e.course.id" +
             " INNER JOIN users u on u.id = e.user.id WHERE c.id =: id AND u.role =: role";
 
-    private static final String GET_ALL_LESSONS_IN_COURSE = "SELECT l FROM courses c INNER JOIN lessons l on c.id = l.course.id" +
+    private static final String GET_ALL_LESSONS_IN_COURSE = "SELECT l FROM lessons l JOIN FETCH l.course c" +
             " WHERE c.id = :id";
 
     private static final String GET_COURSES_BY_START_DATE = "SELECT c FROM courses c WHERE c.startDate = :startDate";
@@ -127,16 +125,13 @@ public class CourseRepositoryImpl implements CourseRepository {
 
     @Override
     public boolean isUserAssignedToCourse(Long userId, Long courseId) {
-        try {
-            Course course = getEntityManager().createQuery(GET_COURSE_BY_USER_ID_AND_COURSE_ID, Course.class)
-                    .setParameter("userId", userId)
-                    .setParameter("courseId", courseId)
-                    .getSingleResult();
-
-            return course != null;
-        } catch (NoResultException e) {
+        if (userId == null || courseId == null) {
             return false;
         }
+        return getEntityManager().createQuery(IS_USER_ASSIGNED_TO_COURSE, Boolean.class)
+                .setParameter("userId", userId)
+                .setParameter("courseId", courseId)
+                .getSingleResult();
     }
 
     @Override
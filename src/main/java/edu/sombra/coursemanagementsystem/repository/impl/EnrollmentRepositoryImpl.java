@@ -11,13 +11,19 @@ import jakarta.persistence.Tuple;
 import lombok.Generated;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 public class EnrollmentRepositoryImpl implements EnrollmentRepository {
     @PersistenceContext
     private EntityManager entityManager;
     public static final String GET_COURSES_BY_USER_ID = "SELECT c FROM enrollments e INNER JOIN courses c on c.id = e.course.id WHERE e.user.id =:id";
+    public static final String GET_COURSE_IDS_BY_USER_ID = "SELECT e.course.id FROM enrollments e WHERE e.user.id = :userId";
     public static final String GET_COURSES_BY_ENROLLMENT_ID = "SELECT e.course FROM enrollments e INNER JOIN users u on u.id = e.user.id WHERE e.id =: id";
     public static final String GET_ASSIGNED_INSTRUCTOR_FOR_COURSE = "SELECT u FROM enrollments e INNER JOIN users u on u.id = e.user.id" +
             " WHERE e.course.id =: id AND u.role = 'INSTRUCTOR'";
@@ -25,6 +31,16 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
     public static final String GET_ENROLLMENT_BY_COURSE_NAME = "select c.name, u.firstName, u.lastName, u.role, u.email from enrollments e" +
             " inner join courses c on c.id = e.course.id INNER JOIN users u on u.id = e.user.id where c.name = :name";
     public static final String GET_NUMBER_OF_USER_COURSES = "SELECT count(e.course.id) FROM enrollments e WHERE e.user.id =: userId";
+    public static final String GET_NUMBER_OF_COURSES_BY_USERS = "SELECT e.user.id, count(e) FROM enrollments e" +
+            " WHERE e.user.id IN (:userIds) GROUP BY e.user.id";
+    public static final String GET_USER_IDS_ASSIGNED_TO_COURSE = "SELECT e.user.id FROM enrollments e" +
+            " WHERE e.course.id = :courseId AND e.user.id IN (:userIds)";
+    public static final String INSERT_ENROLLMENTS_FOR_USERS = "INSERT INTO enrollments (user_id, course_id)" +
+            " SELECT u.id, :courseId FROM users u WHERE u.id IN (:userIds) AND u.role = 'STUDENT' ORDER BY u.id" +
+            " ON CONFLICT (user_id, course_id) DO NOTHING RETURNING user_id";
+    public static final String IS_USER_ASSIGNED_TO_HOMEWORK_COURSE = "SELECT CASE WHEN EXISTS (SELECT 1 FROM homework h" +
+            " JOIN h.lesson l JOIN enrollments e ON e.course.id = l.course.id" +
+            " WHERE h.id = :homeworkId AND e.user.id = :userId) THEN true ELSE false END";
     public static final String IS_USER_ALREADY_ASSIGNED_FOR_COURSE_QUERY = "SELECT COUNT(e) FROM enrollments e WHERE e.course = :course AND e.user = :user";
 
     @Override
@@ -37,6 +53,17 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
                 .equals(0L);
     }
 
+    @Override
+    public boolean isUserAssignedToHomeworkCourse(Long userId, Long homeworkId) {
+        if (userId == null || homeworkId == null) {
+            return false;
+        }
+        return getEntityManager().createQuery(IS_USER_ASSIGNED_TO_HOMEWORK_COURSE, Boolean.class)
+                .setParameter("userId", userId)
+                .setParameter("homeworkId", homeworkId)
+                .getSingleResult();
+    }
+
     @Override
     public List<Tuple> findEnrollmentByCourseName(String name) {
         return getEntityManager().createQuery(GET_ENROLLMENT_BY_COURSE_NAME, Tuple.class)
@@ -58,6 +85,13 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
                 .getResultList();
     }
 
+    @Override
+    public Set<Long> findCourseIdsByUserId(Long userId) {
+        return new HashSet<>(getEntityManager().createQuery(GET_COURSE_IDS_BY_USER_ID, Long.class)
+                .setParameter("userId", userId)
+                .getResultList());
+    }
+
     @Override
     public Course findCourseByEnrollmentId(Long id) {
         return getEntityManager().createQuery(GET_COURSES_BY_ENROLLMENT_ID, Course.class)
@@ -83,6 +117,33 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
         }
     }
 
+    @Override
+    public Map<Long, Long> getUserRegisteredCourseCounts(Collection<Long> userIds) {
+        return getEntityManager().createQuery(GET_NUMBER_OF_COURSES_BY_USERS, Tuple.class)
+                .setParameter("userIds", userIds)
+                .getResultStream()
+                .collect(Collectors.toMap(tuple -> tuple.get(0, Long.class), tuple -> tuple.get(1, Long.class)));
+    }
+
+    @Override
+    public Set<Long> findUserIdsAssignedToCourse(Long courseId, Collection<Long> userIds) {
+        return new HashSet<>(getEntityManager().createQuery(GET_USER_IDS_ASSIGNED_TO_COURSE, Long.class)
+                .setParameter("courseId", courseId)
+                .setParameter("userIds", userIds)
+                .getResultList());
+    }
+
+    @Override
+    public List<Long> enrollUsers(Collection<Long> userIds, Long courseId) {
+        List<?> enrolledUserIds = getEntityManager().createNativeQuery(INSERT_ENROLLMENTS_FOR_USERS, Long.class)
+                .setParameter("courseId", courseId)
+                .setParameter("userIds", userIds)
+                .getResultList();
+        return enrolledUserIds.stream()
+                .map(Long.class::cast)
+                .toList();
+    }
+
     @Generated
     @Override
     public EntityManager getEntityManager() {
@@ -94,4 +155,10 @@ public class EnrollmentRepositoryImpl implements EnrollmentRepository {
     public Class<Enrollment> getEntityClass() {
         return Enrollment.class;
     }
+
+    @Generated
+    @Override
+    public String getFetchGraphName() {
+        return Enrollment.DETAILS_GRAPH;
+    }
 }
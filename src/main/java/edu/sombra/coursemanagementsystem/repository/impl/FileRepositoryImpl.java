@@ -6,14 +6,75 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.AllArgsConstructor;
 import lombok.Generated;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @AllArgsConstructor
 @Repository
 public class FileRepositoryImpl implements FileRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private static final String UPDATE_FILE_DATA = "UPDATE files SET file_data = ? WHERE id = ?";
+
+    private static final String GET_FILE_DATA_CHUNK = "SELECT substring(file_data FROM CAST(:offset AS INTEGER) FOR :length) FROM files WHERE id = :id";
+
+    private static final String GET_FILES_STORED_IN_DATABASE = "SELECT * FROM files WHERE content_hash IS NULL AND file_data IS NOT NULL ORDER BY id LIMIT :limit";
+
+    private static final String UPDATE_FILE_DATA_MOVED = "UPDATE files SET content_hash = :contentHash, file_data = NULL WHERE id = :id";
+
+    private static final String FIND_EXISTING_CONTENT_HASHES = "SELECT DISTINCT f.contentHash FROM files f WHERE f.contentHash IN (:contentHashes)";
+
+    @Override
+    public void saveFileData(Long fileId, InputStream inputStream, long size) {
+        getEntityManager().unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_FILE_DATA)) {
+                statement.setBinaryStream(1, inputStream, size);
+                statement.setLong(2, fileId);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public byte[] readFileData(Long fileId, long offset, int length) {
+        return (byte[]) getEntityManager().createNativeQuery(GET_FILE_DATA_CHUNK)
+                .setParameter("offset", offset + 1)
+                .setParameter("length", length)
+                .setParameter("id", fileId)
+                .getSingleResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<File> findFilesStoredInDatabase(int limit) {
+        return getEntityManager().createNativeQuery(GET_FILES_STORED_IN_DATABASE, File.class)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public void markFileDataMoved(Long fileId, String contentHash) {
+        getEntityManager().createNativeQuery(UPDATE_FILE_DATA_MOVED)
+                .setParameter("contentHash", contentHash)
+                .setParameter("id", fileId)
+                .executeUpdate();
+    }
+
+    @Override
+    public Set<String> findExistingContentHashes(Collection<String> contentHashes) {
+        return new HashSet<>(getEntityManager().createQuery(FIND_EXISTING_CONTENT_HASHES, String.class)
+                .setParameter("contentHashes", contentHashes)
+                .getResultList());
+    }
+
     @Generated
     @Override
     public EntityManager getEntityManager() {
@@ -1,16 +1,27 @@
 package edu.sombra.coursemanagementsystem.repository.impl;
 
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import lombok.AllArgsConstructor;
 import lombok.Generated;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 @Repository
@@ -25,7 +36,36 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
     private static final String GET_HOMEWORK_BY_USER_ID_AND_LESSON_ID = "SELECT h from homework h WHERE h.user.id =: userId " +
             "AND h.lesson.id =: lessonId";
 
-    private static final String INSERT_USER_FOR_LESSON = "INSERT INTO homework (user_id, lesson_id) VALUES (:userId, :lessonId )";
+    private static final String GET_HOMEWORKS_BY_USER_ID_AND_COURSE_ID = "SELECT h FROM homework h " +
+            "JOIN FETCH h.lesson l LEFT JOIN FETCH h.file JOIN FETCH h.user " +
+            "WHERE h.user.id = :userId AND l.course.id = :courseId";
+
+    private static final String INSERT_USERS_FOR_COURSE_LESSONS = "WITH inserted AS (" +
+            " INSERT INTO homework (user_id, lesson_id)" +
+            " SELECT u.id, l.id FROM users u CROSS JOIN lessons l WHERE u.id IN (:userIds) AND l.course_id = :courseId" +
+            " RETURNING user_id), " +
+            "aggregated AS (" +
+            " INSERT INTO course_grade_aggregates (user_id, course_id, ungraded_count)" +
+            " SELECT user_id, :courseId, COUNT(*) FROM inserted GROUP BY user_id" +
+            " ON CONFLICT (user_id, course_id)" +
+            " DO UPDATE SET ungraded_count = course_grade_aggregates.ungraded_count + EXCLUDED.ungraded_count) " +
+            "SELECT COUNT(*) FROM inserted";
+
+    private static final String UPDATE_MARK_RETURNING_PREVIOUS = "UPDATE homework h SET mark = :mark" +
+            " FROM (SELECT id, mark FROM homework WHERE id = :id FOR UPDATE) previous, lessons l" +
+            " WHERE h.id = previous.id AND l.id = h.lesson_id" +
+            " RETURNING h.id, h.user_id, l.course_id, previous.mark AS previous_mark, h.mark";
+
+    private static final String UPDATE_MARKS_RETURNING_PREVIOUS = "UPDATE homework h SET mark = v.mark" +
+            " FROM (VALUES %s) AS v(id, mark)," +
+            " (SELECT id, mark FROM homework WHERE id IN (:ids) ORDER BY id FOR UPDATE) previous, lessons l" +
+            " WHERE h.id = v.id AND previous.id = v.id AND l.id = h.lesson_id" +
+            " RETURNING h.id, h.user_id, l.course_id, previous.mark AS previous_mark, h.mark";
+
+    private static final String GET_COURSE_IDS_BY_HOMEWORK_IDS = "SELECT h.id AS homeworkId, l.course.id AS courseId " +
+            "FROM homework h JOIN h.lesson l WHERE h.id IN (:homeworkIds)";
+
+    private static final String GET_HOMEWORKS_BY_IDS = "SELECT h FROM homework h WHERE h.id IN (:homeworkIds) ORDER BY h.id";
 
     private static final String GET_HOMEWORKS_BY_COURSE_ID = "SELECT h FROM homework h INNER JOIN lessons l on l.id = h.lesson.id " +
             "WHERE l.course.id =: courseId";
@@ -41,14 +81,74 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
             "  AND u_instructor.id = :instructor_id";
     private static final String GET_HOMEWORK_BY_FILE_AND_USER_ID = "SELECT h FROM homework h " +
             "WHERE h.user.id = :studentId AND h.file.id = :fileId";
+    private static final String GET_HOMEWORKS_FOR_EXPORT = "SELECT new edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO(" +
+            "h.id, h.mark, u.id, u.email, l.id, l.name, c.id, c.name, f.id, f.fileName) " +
+            "FROM homework h LEFT JOIN h.user u LEFT JOIN h.lesson l LEFT JOIN l.course c LEFT JOIN h.file f " +
+            "ORDER BY h.id";
 
     @Override
-    public void setMark(Long homeworkId, Long mark) {
-        getEntityManager()
-                .createNativeQuery("UPDATE homework SET mark =:mark WHERE id =:id")
+    public Optional<MarkChangeDTO> setMark(Long homeworkId, Long mark) {
+        List<?> changes = getEntityManager().createNativeQuery(UPDATE_MARK_RETURNING_PREVIOUS, Tuple.class)
                 .setParameter("id", homeworkId)
                 .setParameter("mark", mark)
-                .executeUpdate();
+                .getResultList();
+        return changes.stream()
+                .map(Tuple.class::cast)
+                .map(this::toMarkChange)
+                .findFirst();
+    }
+
+    @Override
+    public List<MarkChangeDTO> setMarks(Map<Long, Long> marksByHomeworkId) {
+        if (marksByHomeworkId.isEmpty()) {
+            return List.of();
+        }
+        List<Map.Entry<Long, Long>> marks = List.copyOf(marksByHomeworkId.entrySet());
+        String values = IntStream.range(0, marks.size())
+                .mapToObj(i -> "(:homeworkId" + i + ", :mark" + i + ")")
+                .collect(Collectors.joining(", "));
+        Query query = getEntityManager().createNativeQuery(UPDATE_MARKS_RETURNING_PREVIOUS.formatted(values), Tuple.class)
+                .setParameter("ids", marksByHomeworkId.keySet());
+        for (int i = 0; i < marks.size(); i++) {
+            query.setParameter("homeworkId" + i, marks.get(i).getKey())
+                    .setParameter("mark" + i, marks.get(i).getValue());
+        }
+        List<?> changes = query.getResultList();
+        return changes.stream()
+                .map(Tuple.class::cast)
+                .map(this::toMarkChange)
+                .toList();
+    }
+
+    private MarkChangeDTO toMarkChange(Tuple change) {
+        return MarkChangeDTO.builder()
+                .homeworkId(change.get("id", Long.class))
+                .userId(change.get("user_id", Long.class))
+                .courseId(change.get("course_id", Long.class))
+                .previousMark(change.get("previous_mark", Long.class))
+                .mark(change.get("mark", Long.class))
+                .build();
+    }
+
+    @Override
+    public Map<Long, Long> findCourseIdsByHomeworkIds(Collection<Long> homeworkIds) {
+        if (homeworkIds.isEmpty()) {
+            return Map.of();
+        }
+        return getEntityManager().createQuery(GET_COURSE_IDS_BY_HOMEWORK_IDS, Tuple.class)
+                .setParameter("homeworkIds", homeworkIds)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> row.get("homeworkId", Long.class), row -> row.get("courseId", Long.class)));
+    }
+
+    @Override
+    public List<Homework> findAllByIds(Collection<Long> homeworkIds) {
+        if (homeworkIds.isEmpty()) {
+            return List.of();
+        }
+        return withFetchGraph(getEntityManager().createQuery(GET_HOMEWORKS_BY_IDS, Homework.class))
+                .setParameter("homeworkIds", homeworkIds)
+                .getResultList();
     }
 
     @Override
@@ -61,7 +161,7 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
 
     @Override
     public Optional<Homework> findByUserAndLessonId(Long userId, Long lessonId) {
-        return getEntityManager().createQuery(GET_HOMEWORK_BY_USER_ID_AND_LESSON_ID, Homework.class)
+        return withFetchGraph(getEntityManager().createQuery(GET_HOMEWORK_BY_USER_ID_AND_LESSON_ID, Homework.class))
                 .setParameter("userId", userId)
                 .setParameter("lessonId", lessonId)
                 .getResultStream()
@@ -69,11 +169,21 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
     }
 
     @Override
-    public void assignUserForLesson(Long userId, Long lessonId) {
-        getEntityManager().createNativeQuery(INSERT_USER_FOR_LESSON)
+    public Map<Long, Homework> findAllByUserAndCourseId(Long userId, Long courseId) {
+        return getEntityManager().createQuery(GET_HOMEWORKS_BY_USER_ID_AND_COURSE_ID, Homework.class)
                 .setParameter("userId", userId)
-                .setParameter("lessonId", lessonId)
-                .executeUpdate();
+                .setParameter("courseId", courseId)
+                .getResultStream()
+                .collect(Collectors.toMap(h -> h.getLesson().getId(), Function.identity(), (first, second) -> first));
+    }
+
+    @Override
+    public int assignUsersToCourseLessons(Collection<Long> userIds, Long courseId) {
+        Number inserted = (Number) getEntityManager().createNativeQuery(INSERT_USERS_FOR_COURSE_LESSONS)
+                .setParameter("userIds", userIds)
+                .setParameter("courseId", courseId)
+                .getSingleResult();
+        return inserted.intValue();
     }
 
     @Override
@@ -99,18 +209,26 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
 
     @Override
     public List<Homework> findAllByUser(Long userId) {
-        return getEntityManager().createQuery(GET_ALL_HOMEWORKS_BY_USER, Homework.class)
+        return withFetchGraph(getEntityManager().createQuery(GET_ALL_HOMEWORKS_BY_USER, Homework.class))
                 .setParameter("userId", userId)
                 .getResultList();
     }
 
     @Override
     public List<Homework> findAllHomeworksWithInstructorAccess(Long userId) {
-        return getEntityManager().createQuery(GET_HOMEWORKS_WITH_INSTRUCTOR_ACCESS, Homework.class)
+        return withFetchGraph(getEntityManager().createQuery(GET_HOMEWORKS_WITH_INSTRUCTOR_ACCESS, Homework.class))
                 .setParameter("instructor_id", userId)
                 .getResultList();
     }
 
+    @Override
+    public Stream<HomeworkExportDTO> streamAllForExport(int fetchSize) {
+        return getEntityManager().createQuery(GET_HOMEWORKS_FOR_EXPORT, HomeworkExportDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
     @Generated
     @Override
     public EntityManager getEntityManager() {
@@ -122,4 +240,10 @@ public class HomeworkRepositoryImpl implements HomeworkRepository {
     public Class<Homework> getEntityClass() {
         return Homework.class;
     }
+
+    @Generated
+    @Override
+    public String getFetchGraphName() {
+        return Homework.DETAILS_GRAPH;
+    }
 }
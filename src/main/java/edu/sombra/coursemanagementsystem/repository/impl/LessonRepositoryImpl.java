@@ -1,9 +1,11 @@
 package edu.sombra.coursemanagementsystem.repository.impl;
 
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import lombok.Generated;
 import org.springframework.stereotype.Repository;
 
@@ -16,9 +18,25 @@ public class LessonRepositoryImpl implements LessonRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
-    public static final String GET_LESSONS_BY_USER = "SELECT l FROM lessons l INNER JOIN enrollments e on l.course.id = e.course.id" +
-            " INNER JOIN users u on e.user.id = u.id " +
-            " WHERE u.id =: userId";
+    private static final String SELECT_LESSON_COURSES = "SELECT new edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO(" +
+            "l.id, l.name, c.id, c.name, c.status, c.startDate) " +
+            "FROM lessons l JOIN l.course c ";
+
+    private static final String GET_LESSON_COURSES_BY_USER = SELECT_LESSON_COURSES +
+            "JOIN enrollments e ON e.course.id = c.id " +
+            "WHERE e.user.id = :userId " +
+            "ORDER BY c.id, l.id";
+
+    private static final String GET_LESSON_COURSES_BY_COURSE_ID = SELECT_LESSON_COURSES +
+            "WHERE c.id = :courseId " +
+            "ORDER BY l.id";
+
+    private static final String GET_LESSON_COURSES = SELECT_LESSON_COURSES +
+            "ORDER BY l.id";
+
+    private static final String GET_LESSON_COURSES_AFTER = SELECT_LESSON_COURSES +
+            "WHERE l.id > :after " +
+            "ORDER BY l.id";
 
     private static final String GET_LESSONS_BY_HOMEWORK_ID = "SELECT l FROM homework h INNER JOIN lessons l on l.id = h.lesson.id" +
             " WHERE h.id = :homeworkId";
@@ -37,24 +55,46 @@ public class LessonRepositoryImpl implements LessonRepository {
         return Lesson.class;
     }
 
+    @Generated
+    @Override
+    public String getFetchGraphName() {
+        return Lesson.DETAILS_GRAPH;
+    }
+
     @Override
     public List<Lesson> findAllByCourseId(Long courseId) {
-        return getEntityManager().createQuery(GET_ALL_LESSONS_BY_COURSE_ID, Lesson.class)
+        return withFetchGraph(getEntityManager().createQuery(GET_ALL_LESSONS_BY_COURSE_ID, Lesson.class))
                 .setParameter("courseId", courseId)
                 .getResultList();
     }
 
     @Override
     public Optional<Lesson> findLessonByHomeworkId(Long homeworkId) {
-        return Optional.ofNullable(entityManager.createQuery(GET_LESSONS_BY_HOMEWORK_ID, Lesson.class)
+        return Optional.ofNullable(withFetchGraph(entityManager.createQuery(GET_LESSONS_BY_HOMEWORK_ID, Lesson.class))
                 .setParameter("homeworkId", homeworkId)
                 .getSingleResult());
     }
 
     @Override
-    public List<Lesson> findAllLessonsByUserId(Long userId) {
-        return getEntityManager().createQuery(GET_LESSONS_BY_USER, Lesson.class)
+    public List<LessonCourseDTO> findLessonCoursesByCourseId(Long courseId) {
+        return getEntityManager().createQuery(GET_LESSON_COURSES_BY_COURSE_ID, LessonCourseDTO.class)
+                .setParameter("courseId", courseId)
+                .getResultList();
+    }
+
+    @Override
+    public List<LessonCourseDTO> findLessonCoursesByUserId(Long userId) {
+        return getEntityManager().createQuery(GET_LESSON_COURSES_BY_USER, LessonCourseDTO.class)
                 .setParameter("userId", userId)
                 .getResultList();
     }
+
+    @Override
+    public List<LessonCourseDTO> findLessonCoursesAfter(Long after, int limit) {
+        TypedQuery<LessonCourseDTO> query = after == null
+                ? getEntityManager().createQuery(GET_LESSON_COURSES, LessonCourseDTO.class)
+                : getEntityManager().createQuery(GET_LESSON_COURSES_AFTER, LessonCourseDTO.class)
+                .setParameter("after", after);
+        return query.setMaxResults(limit).getResultList();
+    }
 }
@@ -25,6 +25,10 @@ public class UserRepositoryImpl implements UserRepository {
 
     private static final String FIND_USERS_BY_EMAIL_QUERY = "SELECT u FROM users u WHERE u.email IN :emails";
 
+    private static final String FIND_TOKEN_VERSION_QUERY = "SELECT u.tokenVersion FROM users u WHERE u.id = :id";
+
+    private static final String INCREMENT_TOKEN_VERSION_QUERY = "UPDATE users SET token_version = token_version + 1 WHERE id = :id RETURNING token_version";
+
     @Override
     public boolean existsUserByEmail(String email) {
         Long count = getEntityManager().createQuery(EXIST_USER_BY_EMAIL_QUERY, Long.class)
@@ -59,6 +63,23 @@ public class UserRepositoryImpl implements UserRepository {
                 .getResultList();
     }
 
+    @Override
+    public Long findTokenVersion(Long userId) {
+        return getEntityManager().createQuery(FIND_TOKEN_VERSION_QUERY, Long.class)
+                .setParameter("id", userId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public Long incrementTokenVersion(Long userId) {
+        List<?> versions = getEntityManager().createNativeQuery(INCREMENT_TOKEN_VERSION_QUERY, Long.class)
+                .setParameter("id", userId)
+                .getResultList();
+        return versions.isEmpty() ? null : (Long) versions.get(0);
+    }
+
     @Generated
     @Override
     public EntityManager getEntityManager() {
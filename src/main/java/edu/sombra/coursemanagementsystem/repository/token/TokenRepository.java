@@ -1,17 +1,28 @@
 package edu.sombra.coursemanagementsystem.repository.token;
 
 import edu.sombra.coursemanagementsystem.entity.Token;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenHash;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface TokenRepository extends JpaRepository<Token, Long> {
-    @Query("select t from tokens t inner join users u on t.user.id = u.id where u.id = :id and (t.expired = false or t.revoked = false)")
-    List<Token> findAllValidTokenByUser(@Param("id") Long id);
-    Optional<Token> findByToken(String token);
+    Optional<Token> findByTokenHash(byte[] tokenHash);
+
+    default Optional<Token> findByToken(String token) {
+        return findByTokenHash(TokenHash.of(token));
+    }
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tokens WHERE id IN (SELECT id FROM tokens WHERE revoked = true OR expired = true OR expires_at < :now LIMIT :limit)",
+            nativeQuery = true)
+    int deletePurgeableTokens(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.security.config;
 
 import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenCache;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class LogoutService implements LogoutHandler {
     private final TokenRepository tokenRepository;
+    private final TokenCache tokenCache;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -30,6 +34,10 @@ public class LogoutService implements LogoutHandler {
             storedToken.setExpired(true);
             storedToken.setRevoked(true);
             tokenRepository.save(storedToken);
+            // Requests are authenticated from token claims alone, so the version bump is what rejects this token;
+            // it also rejects every other token of the user, i.e. logout ends all of the user's sessions.
+            tokenVersionCache.increment(storedToken.getUser().getId());
+            tokenCache.evict(jwt);
             SecurityContextHolder.clearContext();
         }
     }
@@ -1,6 +1,7 @@
 package edu.sombra.coursemanagementsystem.security.config;
 
 import edu.sombra.coursemanagementsystem.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -37,6 +38,9 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests(authorizeHttpRequests ->
                         authorizeHttpRequests
                                 .requestMatchers("/api/v1/auth/**").permitAll()
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                                 // Course
                                 .requestMatchers("/api/v1/course/create", "/api/v1/course/edit", "/api/v1/find-all-lessons/{id}").hasRole("ADMIN")
@@ -46,6 +50,7 @@ public class SecurityConfiguration {
                                 .requestMatchers(HttpMethod.GET, "/api/v1/course/user/{userId}").hasAnyRole("ADMIN", "INSTRUCTOR", "STUDENT")
                                 .requestMatchers(HttpMethod.POST, "/api/v1/course/instructor/users").hasAnyRole("ADMIN", "INSTRUCTOR")
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/course/{id}").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/api/v1/course/marks/export").hasRole("ADMIN")
 
                                 // Course feedback
                                 .requestMatchers(HttpMethod.POST, "/api/v1/feedback").hasAnyRole("ADMIN", "INSTRUCTOR")
@@ -56,6 +61,7 @@ public class SecurityConfiguration {
 
                                 // Enrollment
                                 .requestMatchers("/api/v1/enrollment/instructor").hasRole("ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/api/v1/enrollment/bulk").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/api/v1/enrollment/{id}").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.PUT, "/api/v1/enrollment").hasRole("ADMIN")
                                 .requestMatchers("/api/v1/enrollment/user/apply").hasAnyRole("ADMIN", "STUDENT")
@@ -69,6 +75,8 @@ public class SecurityConfiguration {
 
                                 // Homework
                                 .requestMatchers(HttpMethod.PUT, "/api/v1/homework/mark").hasAnyRole("ADMIN", "INSTRUCTOR")
+                                .requestMatchers(HttpMethod.PUT, "/api/v1/homework/marks").hasAnyRole("ADMIN", "INSTRUCTOR")
+                                .requestMatchers(HttpMethod.GET, "/api/v1/homework/export").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/api/v1/homework/user/{userId}").hasAnyRole("ADMIN", "INSTRUCTOR")
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/homework/{homeworkId}").hasAnyRole("ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/api/v1/homework/{homeworkId}").hasAnyRole("ADMIN", "INSTRUCTOR", "STUDENT")
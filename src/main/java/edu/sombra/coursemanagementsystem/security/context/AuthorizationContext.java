@@ -0,0 +1,38 @@
+package edu.sombra.coursemanagementsystem.security.context;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtPrincipal;
+import edu.sombra.coursemanagementsystem.util.RequestMemo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthorizationContext {
+    private final UserRepository userRepository;
+    private final EnrollmentCache enrollmentCache;
+
+    public User getUser(String userEmail) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user
+                && user.getEmail().equals(userEmail)) {
+            return user;
+        }
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && principal.email().equals(userEmail)) {
+            return principal.toUser();
+        }
+        return RequestMemo.computeIfAbsent("userByEmail", userEmail, () -> userRepository.findUserByEmail(userEmail));
+    }
+
+    public boolean isEnrolledIn(User user, Long courseId) {
+        return isEnrolledIn(user.getId(), courseId);
+    }
+
+    public boolean isEnrolledIn(Long userId, Long courseId) {
+        return enrollmentCache.isEnrolled(userId, courseId);
+    }
+}
@@ -0,0 +1,91 @@
+package edu.sombra.coursemanagementsystem.security.context;
+
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class EnrollmentCache {
+    private final EnrollmentRepository enrollmentRepository;
+    private final Map<Long, CachedCourses> entries;
+    private final long ttl;
+    private long generation;
+
+    public EnrollmentCache(EnrollmentRepository enrollmentRepository,
+                           @Value("${application.enrollment.cache.max-size}") int maxSize,
+                           @Value("${application.enrollment.cache.ttl}") long ttl) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedCourses> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public boolean isEnrolled(Long userId, Long courseId) {
+        return userId != null && courseId != null && Arrays.binarySearch(getCourseIds(userId), courseId) >= 0;
+    }
+
+    public long[] getCourseIds(Long userId) {
+        long loadedGeneration;
+        synchronized (this) {
+            CachedCourses cachedCourses = entries.get(userId);
+            if (cachedCourses != null && cachedCourses.expiresAt() > System.currentTimeMillis()) {
+                return cachedCourses.courseIds();
+            }
+            loadedGeneration = generation;
+        }
+        long[] courseIds = enrollmentRepository.findCourseIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        synchronized (this) {
+            if (loadedGeneration == generation) {
+                entries.put(userId, new CachedCourses(courseIds, System.currentTimeMillis() + ttl));
+            }
+        }
+        return courseIds;
+    }
+
+    public void evict(Long userId) {
+        remove(userId);
+        afterCompletion(() -> remove(userId));
+    }
+
+    public void evictAll() {
+        clear();
+        afterCompletion(this::clear);
+    }
+
+    private synchronized void remove(Long userId) {
+        generation++;
+        entries.remove(userId);
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    private void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record CachedCourses(long[] courseIds, long expiresAt) {
+    }
+}
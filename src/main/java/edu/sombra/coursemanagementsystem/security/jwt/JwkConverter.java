@@ -0,0 +1,64 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.dto.auth.JwkDTO;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+
+public final class JwkConverter {
+    public static final String KEY_TYPE = "EC";
+    public static final String CURVE_NAME = "P-256";
+    public static final String SIGNATURE_USE = "sig";
+    public static final String ALGORITHM = "ES256";
+    private static final int COORDINATE_LENGTH = 32;
+
+    private JwkConverter() {
+    }
+
+    public static JwkDTO toJwk(String kid, ECPublicKey publicKey) {
+        return JwkDTO.builder()
+                .kty(KEY_TYPE)
+                .crv(CURVE_NAME)
+                .kid(kid)
+                .use(SIGNATURE_USE)
+                .alg(ALGORITHM)
+                .x(encodeCoordinate(publicKey.getW().getAffineX()))
+                .y(encodeCoordinate(publicKey.getW().getAffineY()))
+                .build();
+    }
+
+    public static ECPublicKey toPublicKey(JwkDTO jwk) {
+        if (!KEY_TYPE.equals(jwk.getKty()) || !CURVE_NAME.equals(jwk.getCrv())) {
+            throw new IllegalArgumentException("Unsupported JWK: " + jwk.getKty() + " " + jwk.getCrv());
+        }
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance(JwtKeys.KEY_ALGORITHM);
+            parameters.init(new ECGenParameterSpec(JwtKeys.CURVE));
+            ECPoint point = new ECPoint(decodeCoordinate(jwk.getX()), decodeCoordinate(jwk.getY()));
+            ECPublicKeySpec keySpec = new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+            return (ECPublicKey) KeyFactory.getInstance(JwtKeys.KEY_ALGORITHM).generatePublic(keySpec);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] padded = new byte[COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, padded, COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+
+    private static BigInteger decodeCoordinate(String coordinate) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(coordinate));
+    }
+}
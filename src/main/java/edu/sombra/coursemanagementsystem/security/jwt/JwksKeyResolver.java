@@ -0,0 +1,93 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.sombra.coursemanagementsystem.dto.auth.JwkDTO;
+import edu.sombra.coursemanagementsystem.dto.auth.JwksDTO;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+    private final Supplier<String> jwksSource;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long minRefreshInterval;
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private final AtomicLong lastRefresh = new AtomicLong(Long.MIN_VALUE);
+
+    public JwksKeyResolver(Supplier<String> jwksSource, long minRefreshInterval) {
+        this.jwksSource = jwksSource;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    public static JwksKeyResolver fromUri(URI jwksUri, long minRefreshInterval, Duration timeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(timeout)
+                .GET()
+                .build();
+        return new JwksKeyResolver(() -> {
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IOException("JWKS endpoint returned status " + response.statusCode());
+                }
+                return response.body();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }, minRefreshInterval);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        PublicKey publicKey = kid == null ? null : publicKeys.get(kid);
+        if (publicKey == null && kid != null && refresh()) {
+            publicKey = publicKeys.get(kid);
+        }
+        if (publicKey == null) {
+            throw new SignatureException("Unknown JWT signing key: " + kid);
+        }
+        return publicKey;
+    }
+
+    private boolean refresh() {
+        long now = System.currentTimeMillis();
+        long previousRefresh = lastRefresh.get();
+        if (previousRefresh != Long.MIN_VALUE && now - previousRefresh < minRefreshInterval) {
+            return false;
+        }
+        // Only the thread that claims the refresh slot fetches; the others reject the unknown kid without waiting.
+        if (!lastRefresh.compareAndSet(previousRefresh, now)) {
+            return false;
+        }
+        try {
+            JwksDTO jwks = objectMapper.readValue(jwksSource.get(), JwksDTO.class);
+            publicKeys = jwks.getKeys().stream()
+                    .collect(Collectors.toUnmodifiableMap(JwkDTO::getKid, JwkConverter::toPublicKey));
+        } catch (IOException | RuntimeException e) {
+            throw new SignatureException("Unable to load JWT signing keys from JWKS", e);
+        }
+        return true;
+    }
+}
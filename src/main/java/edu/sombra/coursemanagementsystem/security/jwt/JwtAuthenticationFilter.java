@@ -1,6 +1,5 @@
 package edu.sombra.coursemanagementsystem.security.jwt;
 
-import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +8,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,8 +18,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-    private final TokenRepository tokenRepository;
+    private final TokenCache tokenCache;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -35,23 +32,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            var isTokenValid = tokenRepository.findByToken(jwt)
-                    .map(t -> !t.isExpired() && !t.isRevoked())
-                    .orElse(false);
-            if (jwtService.isTokenValid(jwt, userDetails) && Boolean.TRUE.equals(isTokenValid)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            TokenCache.CachedToken cachedToken = tokenCache.get(jwt)
+                    .orElseGet(() -> verifyToken(jwt));
+            if (cachedToken != null && cachedToken.isValid() && tokenVersionCache.isCurrent(cachedToken.principal())) {
+                JwtPrincipal principal = cachedToken.principal();
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        principal.getAuthorities()
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -59,4 +53,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private TokenCache.CachedToken verifyToken(String jwt) {
+        ParsedToken parsedToken = jwtService.parseOnce(jwt);
+        if (parsedToken.subject() == null) {
+            return null;
+        }
+        JwtPrincipal principal = JwtPrincipal.from(parsedToken);
+        if (principal != null && !parsedToken.isExpired()) {
+            return tokenCache.putValid(jwt, principal, parsedToken.expiration().getTime());
+        }
+        return tokenCache.putRejected(jwt);
+    }
 }
@@ -0,0 +1,131 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.dto.auth.JwksDTO;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class JwtKeys extends SigningKeyResolverAdapter {
+    public static final String KEY_ALGORITHM = "EC";
+    public static final String CURVE = "secp256r1";
+    public static final String GENERATED_KEY_WARNING = "No JWT signing key configured, generated key {} is valid until restart";
+    public static final String MISSING_SIGNING_KID = "JWT_SIGNING_KID must be set when JWT_SIGNING_PRIVATE_KEY is configured";
+    public static final String MISSING_SIGNING_PUBLIC_KEY = "JWT_SIGNING_PUBLIC_KEY must be set when JWT_SIGNING_PRIVATE_KEY is configured";
+    public static final String INVALID_VERIFICATION_KEY = "JWT_VERIFICATION_PUBLIC_KEYS entry %d must be kid:base64X509";
+
+    private final String signingKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> publicKeys;
+
+    public JwtKeys(@Value("${application.security.jwt.signing.kid}") String kid,
+                   @Value("${application.security.jwt.signing.private-key}") String privateKey,
+                   @Value("${application.security.jwt.signing.public-key}") String publicKey,
+                   @Value("${application.security.jwt.verification.public-keys}") String retiredPublicKeys) {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        if (StringUtils.hasText(privateKey)) {
+            if (!StringUtils.hasText(kid)) {
+                throw new IllegalStateException(MISSING_SIGNING_KID);
+            }
+            if (!StringUtils.hasText(publicKey)) {
+                throw new IllegalStateException(MISSING_SIGNING_PUBLIC_KEY);
+            }
+            this.signingKid = kid.trim();
+            this.signingKey = decodePrivateKey(privateKey);
+            keys.put(signingKid, decodePublicKey(publicKey));
+        } else {
+            KeyPair keyPair = generateKeyPair();
+            this.signingKid = UUID.randomUUID().toString();
+            this.signingKey = keyPair.getPrivate();
+            keys.put(signingKid, keyPair.getPublic());
+            log.warn(GENERATED_KEY_WARNING, signingKid);
+        }
+        String[] entries = StringUtils.commaDelimitedListToStringArray(retiredPublicKeys);
+        for (int i = 0; i < entries.length; i++) {
+            String[] kidAndKey = entries[i].trim().split(":", 2);
+            if (kidAndKey.length != 2 || !StringUtils.hasText(kidAndKey[0]) || !StringUtils.hasText(kidAndKey[1])) {
+                throw new IllegalStateException(String.format(INVALID_VERIFICATION_KEY, i + 1));
+            }
+            keys.putIfAbsent(kidAndKey[0].trim(), decodePublicKey(kidAndKey[1]));
+        }
+        this.publicKeys = Collections.unmodifiableMap(keys);
+    }
+
+    public String getSigningKid() {
+        return signingKid;
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public PublicKey getPublicKey(String kid) {
+        return kid == null ? null : publicKeys.get(kid);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        PublicKey publicKey = getPublicKey(header.getKeyId());
+        if (publicKey == null) {
+            throw new SignatureException("Unknown JWT signing key: " + header.getKeyId());
+        }
+        return publicKey;
+    }
+
+    public JwksDTO toJwks() {
+        return new JwksDTO(publicKeys.entrySet().stream()
+                .map(entry -> JwkConverter.toJwk(entry.getKey(), (ECPublicKey) entry.getValue()))
+                .toList());
+    }
+
+    public static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(new ECGenParameterSpec(CURVE));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(String privateKey) {
+        try {
+            return KeyFactory.getInstance(KEY_ALGORITHM)
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey.trim())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PublicKey decodePublicKey(String publicKey) {
+        try {
+            return KeyFactory.getInstance(KEY_ALGORITHM)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey.trim())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
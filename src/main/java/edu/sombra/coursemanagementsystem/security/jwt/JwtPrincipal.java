@@ -0,0 +1,66 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+public record JwtPrincipal(Long id, String email, RoleEnum role, long tokenVersion) implements UserDetails {
+
+    public static JwtPrincipal from(ParsedToken parsedToken) {
+        Long id = parsedToken.claim(JwtService.USER_ID_CLAIM, Long.class);
+        String role = parsedToken.claim(JwtService.ROLE_CLAIM, String.class);
+        Long tokenVersion = parsedToken.claim(JwtService.TOKEN_VERSION_CLAIM, Long.class);
+        if (parsedToken.subject() == null || id == null || role == null || tokenVersion == null) {
+            return null;
+        }
+        return new JwtPrincipal(id, parsedToken.subject(), RoleEnum.valueOf(role), tokenVersion);
+    }
+
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .role(role)
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.getAuthority()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -1,40 +1,78 @@
 package edu.sombra.coursemanagementsystem.security.jwt;
 
+import edu.sombra.coursemanagementsystem.entity.User;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import io.jsonwebtoken.Claims;
 
-import java.security.Key;
+import java.net.URI;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
-    @Value("${application.security.jwt.secret-key}")
-    private String secretKey;
-    @Value("${application.security.jwt.expiration}")
-    private Long jwtExpiration;
-    @Value("${application.security.jwt.refresh-token.expiration}")
-    private long refreshExpiration;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final JwtKeys jwtKeys;
+    private final JwtParser jwtParser;
+    private final Serializer<Map<String, ?>> serializer = new JacksonSerializer<>();
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+
+    @Autowired
+    public JwtService(JwtKeys jwtKeys,
+                      @Value("${application.security.jwt.verification.jwks-uri}") String jwksUri,
+                      @Value("${application.security.jwt.verification.jwks-refresh-interval}") long jwksRefreshInterval,
+                      @Value("${application.security.jwt.verification.jwks-timeout}") long jwksTimeout,
+                      @Value("${application.security.jwt.expiration}") long jwtExpiration,
+                      @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration) {
+        this(jwtKeys,
+                StringUtils.hasText(jwksUri) ? JwksKeyResolver.fromUri(URI.create(jwksUri), jwksRefreshInterval, Duration.ofMillis(jwksTimeout)) : jwtKeys,
+                jwtExpiration,
+                refreshExpiration);
+    }
+
+    public JwtService(JwtKeys jwtKeys, SigningKeyResolver keyResolver, long jwtExpiration, long refreshExpiration) {
+        this.jwtKeys = jwtKeys;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    public long getJwtExpiration() {
+        return jwtExpiration;
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseOnce(token).subject();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public ParsedToken parseOnce(String token) {
+        return ParsedToken.of(extractAllClaims(token));
     }
 
-    public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+    public String generateToken(User user, long tokenVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        return generateToken(claims, user);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
@@ -46,38 +84,27 @@ public class JwtService {
     }
 
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeys.getSigningKid())
+                .signWith(jwtKeys.getSigningKey(), SignatureAlgorithm.ES256)
+                .serializeToJsonWith(serializer)
                 .compact();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(parseOnce(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(ParsedToken parsedToken, UserDetails userDetails) {
+        return parsedToken.subject().equals(userDetails.getUsername()) && !parsedToken.isExpired();
     }
 }
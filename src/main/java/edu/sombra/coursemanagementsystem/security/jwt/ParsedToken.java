@@ -0,0 +1,20 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+public record ParsedToken(String subject, Date expiration, Claims claims) {
+
+    public static ParsedToken of(Claims claims) {
+        return new ParsedToken(claims.getSubject(), claims.getExpiration(), claims);
+    }
+
+    public <T> T claim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
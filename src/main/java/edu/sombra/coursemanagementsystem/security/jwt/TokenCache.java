@@ -0,0 +1,73 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TokenCache {
+    private final Cache<String, CachedToken> entries;
+    private final long ttl;
+
+    public TokenCache(@Value("${application.security.jwt.cache.max-size}") int maxSize,
+                      @Value("${application.security.jwt.cache.ttl}") long ttl) {
+        this.ttl = ttl;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CachedTokenExpiry())
+                .build();
+    }
+
+    public Optional<CachedToken> get(String token) {
+        CachedToken cachedToken = entries.getIfPresent(token);
+        if (cachedToken == null || cachedToken.expiresAt() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedToken);
+    }
+
+    public CachedToken putValid(String token, JwtPrincipal principal, long tokenExpiresAt) {
+        return put(token, new CachedToken(principal, Math.min(System.currentTimeMillis() + ttl, tokenExpiresAt)));
+    }
+
+    public CachedToken putRejected(String token) {
+        return put(token, new CachedToken(null, System.currentTimeMillis() + ttl));
+    }
+
+    private CachedToken put(String token, CachedToken cachedToken) {
+        entries.put(token, cachedToken);
+        return cachedToken;
+    }
+
+    public void evict(String token) {
+        entries.invalidate(token);
+    }
+
+    public record CachedToken(JwtPrincipal principal, long expiresAt) {
+        public boolean isValid() {
+            return principal != null;
+        }
+    }
+
+    private static class CachedTokenExpiry implements Expiry<String, CachedToken> {
+        @Override
+        public long expireAfterCreate(String token, CachedToken cachedToken, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, cachedToken.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, CachedToken cachedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, cachedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, CachedToken cachedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public final class TokenHash {
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenHash() {
+    }
+
+    public static byte[] of(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
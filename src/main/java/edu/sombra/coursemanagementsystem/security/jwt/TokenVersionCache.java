@@ -0,0 +1,101 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class TokenVersionCache {
+    public static final long INITIAL_VERSION = 0;
+    private static final long UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+    private final Map<Long, CachedVersion> entries;
+    private final long ttl;
+    private long generation;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             @Value("${application.security.jwt.version-cache.max-size}") int maxSize,
+                             @Value("${application.security.jwt.version-cache.ttl}") long ttl) {
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedVersion> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public boolean isCurrent(JwtPrincipal principal) {
+        if (principal.id() == null) {
+            return false;
+        }
+        long version = getVersion(principal.id());
+        if (principal.tokenVersion() > version) {
+            // Another node may have issued this token after our entry was cached.
+            version = load(principal.id());
+        }
+        return version != UNKNOWN_USER && principal.tokenVersion() == version;
+    }
+
+    public long getVersion(Long userId) {
+        synchronized (this) {
+            CachedVersion cachedVersion = entries.get(userId);
+            if (cachedVersion != null && cachedVersion.expiresAt() > System.currentTimeMillis()) {
+                return cachedVersion.version();
+            }
+        }
+        return load(userId);
+    }
+
+    private long load(Long userId) {
+        long loadedGeneration;
+        synchronized (this) {
+            loadedGeneration = generation;
+        }
+        Long storedVersion = userRepository.findTokenVersion(userId);
+        long version = storedVersion != null ? storedVersion : UNKNOWN_USER;
+        synchronized (this) {
+            if (loadedGeneration == generation) {
+                entries.put(userId, new CachedVersion(version, System.currentTimeMillis() + ttl));
+            }
+        }
+        return version;
+    }
+
+    public long increment(Long userId) {
+        Long version = userRepository.incrementTokenVersion(userId);
+        evict(userId);
+        return version != null ? version : UNKNOWN_USER;
+    }
+
+    public void evict(Long userId) {
+        remove(userId);
+        afterCompletion(() -> remove(userId));
+    }
+
+    private synchronized void remove(Long userId) {
+        generation++;
+        entries.remove(userId);
+    }
+
+    private void afterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record CachedVersion(long version, long expiresAt) {
+    }
+}
@@ -2,16 +2,15 @@ package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
 
-import java.util.List;
-
 public interface CourseFeedbackService {
     GetCourseFeedbackDTO create(CourseFeedbackDTO courseFeedbackDTO, String instructorEmail);
 
     CourseFeedback findFeedback(Long studentId, Long courseId);
 
-    List<GetCourseFeedbackDTO> findAll();
+    CursorPage<GetCourseFeedbackDTO> findAll(Long after, int limit);
 
     GetCourseFeedbackDTO findCourseFeedbackById(Long id, String userEmail);
 
@@ -6,6 +6,7 @@ import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
 
 import java.util.List;
@@ -21,7 +22,7 @@ public interface CourseService {
 
     void delete(Long id);
 
-    List<CourseResponseDTO> findAllCourses();
+    CursorPage<CourseResponseDTO> findAllCourses(Long after, int limit);
 
     List<LessonResponseDTO> findAllLessonsByCourse(Long id);
 
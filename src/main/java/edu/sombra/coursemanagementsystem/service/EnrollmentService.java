@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentApplyForCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetByNameDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetDTO;
@@ -23,6 +25,8 @@ public interface EnrollmentService {
 
     EnrollmentResponseDTO applyForCourse(EnrollmentApplyForCourseDTO applyForCourseDTO, String userEmail);
 
+    BulkEnrollmentResponseDTO bulkEnroll(BulkEnrollmentDTO bulkEnrollmentDTO);
+
     void isUserAlreadyAssigned(Course course, User user);
 
     Enrollment buildEnrollment(Course course, User user);
@@ -0,0 +1,10 @@
+package edu.sombra.coursemanagementsystem.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportHomeworks(OutputStream outputStream) throws IOException;
+
+    void exportCourseMarks(OutputStream outputStream) throws IOException;
+}
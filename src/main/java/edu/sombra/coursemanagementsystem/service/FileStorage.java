@@ -0,0 +1,20 @@
+package edu.sombra.coursemanagementsystem.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+public interface FileStorage {
+    String store(InputStream inputStream) throws IOException;
+
+    Resource load(String contentHash, String fileName);
+
+    boolean exists(String contentHash);
+
+    void delete(String contentHash) throws IOException;
+
+    List<String> findContentStoredBefore(Instant cutoff) throws IOException;
+}
@@ -0,0 +1,7 @@
+package edu.sombra.coursemanagementsystem.service;
+
+public interface FileStorageMigrationService {
+    int migrateLegacyFiles();
+
+    int deleteOrphanedContent();
+}
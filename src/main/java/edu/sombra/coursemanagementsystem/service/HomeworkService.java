@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkMarkDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 
 import java.util.List;
@@ -11,13 +13,15 @@ public interface HomeworkService {
 
     GetHomeworkDTO setMark(Long userId, Long homeworkId, Long mark);
 
+    List<GetHomeworkDTO> setMarks(List<HomeworkMarkDTO> marks, String userEmail);
+
     boolean isUserUploadedThisHomework(Long fileId, Long studentId);
 
     GetHomeworkDTO findHomeworkById(Long homeworkId, String userEmail);
 
     void deleteHomework(Long homeworkId);
 
-    List<GetHomeworkDTO> getAllHomeworks(String userEmail);
+    CursorPage<GetHomeworkDTO> getAllHomeworks(String userEmail, Long after, int limit);
 
     List<GetHomeworkDTO> getAllHomeworksByUser(Long userId);
 
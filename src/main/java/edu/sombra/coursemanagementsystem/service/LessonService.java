@@ -3,6 +3,7 @@ package edu.sombra.coursemanagementsystem.service;
 import edu.sombra.coursemanagementsystem.dto.lesson.CreateLessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.UpdateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 
@@ -13,7 +14,7 @@ public interface LessonService {
 
     LessonResponseDTO findById(Long id, String userEmail);
 
-    List<LessonResponseDTO> findAllLessons(String userEmail);
+    CursorPage<LessonResponseDTO> findAllLessons(String userEmail, Long after, int limit);
 
     List<LessonResponseDTO> findAllLessonsByCourse(Long courseId, String userEmail);
     List<LessonResponseDTO> findAllLessonsByCourse(Long courseId);
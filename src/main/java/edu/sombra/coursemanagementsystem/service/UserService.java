@@ -1,13 +1,12 @@
 package edu.sombra.coursemanagementsystem.service;
 
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.CreateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.ResetPasswordDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
 
-import java.util.List;
-
 public interface UserService {
     UserResponseDTO findUserById(Long id);
 
@@ -23,7 +22,7 @@ public interface UserService {
 
     void deleteUser(Long id);
 
-    List<UserResponseDTO> findAllUsers();
+    CursorPage<UserResponseDTO> findAllUsers(Long after, int limit);
 
     boolean existsUserByEmail(String email);
 
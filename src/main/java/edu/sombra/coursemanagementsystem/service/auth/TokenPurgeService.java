@@ -0,0 +1,5 @@
+package edu.sombra.coursemanagementsystem.service.auth;
+
+public interface TokenPurgeService {
+    int purgeTokens();
+}
@@ -9,10 +9,12 @@ import edu.sombra.coursemanagementsystem.entity.Token;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.enums.TokenType;
-import edu.sombra.coursemanagementsystem.exception.UserAlreadyExistsException;
 import edu.sombra.coursemanagementsystem.mapper.UserMapper;
 import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
 import edu.sombra.coursemanagementsystem.security.jwt.JwtService;
+import edu.sombra.coursemanagementsystem.security.jwt.ParsedToken;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenHash;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import edu.sombra.coursemanagementsystem.service.UserService;
 import edu.sombra.coursemanagementsystem.service.auth.AuthenticateService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,9 +24,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Instant;
 
 @Slf4j
 @Service
@@ -37,49 +41,42 @@ public class AuthenticateServiceImpl implements AuthenticateService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final TokenRepository tokenRepository;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     public AuthenticationResponse register(RegisterDTO registerDTO) {
-        if (userService.existsUserByEmail(registerDTO.getEmail())) {
-            throw new UserAlreadyExistsException(registerDTO.getEmail());
-        } else {
-            var user = new User();
-            user.setFirstName(registerDTO.getFirstName());
-            user.setLastName(registerDTO.getLastName());
-            user.setEmail(registerDTO.getEmail());
-            user.setPassword(registerDTO.getPassword());
-            user.setRole(RoleEnum.STUDENT);
+        var user = new User();
+        user.setFirstName(registerDTO.getFirstName());
+        user.setLastName(registerDTO.getLastName());
+        user.setEmail(registerDTO.getEmail());
+        user.setPassword(registerDTO.getPassword());
+        user.setRole(RoleEnum.STUDENT);
 
-            var createUserDTO = userMapper.mapToDTO(user);
-            var savedUserDTO = userService.createUser(createUserDTO);
-            var savedUser = userMapper.fromResponseDTO(savedUserDTO);
+        var createUserDTO = userMapper.mapToDTO(user);
+        var savedUserDTO = userService.createUser(createUserDTO);
+        var savedUser = userMapper.fromResponseDTO(savedUserDTO);
 
-            var jwtToken = jwtService.generateToken(user);
-            var refreshedToken = jwtService.generateToken(user);
-            saveUserToken(savedUser, jwtToken);
-            return AuthenticationResponse.builder()
-                    .accessToken(jwtToken)
-                    .refreshToken(refreshedToken)
-                    .build();
-        }
+        var jwtToken = jwtService.generateToken(savedUser, TokenVersionCache.INITIAL_VERSION);
+        var refreshedToken = jwtService.generateRefreshToken(savedUser);
+        saveUserToken(savedUser, jwtToken);
+        return AuthenticationResponse.builder()
+                .accessToken(jwtToken)
+                .refreshToken(refreshedToken)
+                .build();
     }
 
     @Override
     public AuthenticationResponse authenticate(AuthenticationDTO authenticationDTO) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         authenticationDTO.getEmail(),
                         authenticationDTO.getPassword()
                 )
         );
+        User user = (User) authentication.getPrincipal();
 
-        UserResponseDTO userResponseDTO = userService.findUserByEmail(authenticationDTO.getEmail());
-        User user = userMapper.fromResponseDTO(userResponseDTO);
-
-        var jwtToken = jwtService.generateToken(user);
+        var jwtToken = issueAccessToken(user);
         var refreshToken = jwtService.generateRefreshToken(user);
-        revokeAllUserTokens(user);
-        saveUserToken(user, jwtToken);
         return AuthenticationResponse.builder()
                 .accessToken(jwtToken)
                 .refreshToken(refreshToken)
@@ -95,15 +92,14 @@ public class AuthenticateServiceImpl implements AuthenticateService {
             return;
         }
         refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(refreshToken);
+        ParsedToken parsedToken = jwtService.parseOnce(refreshToken);
+        userEmail = parsedToken.subject();
         if (userEmail != null) {
             UserResponseDTO userResponseDTO = userService.findUserByEmail(userEmail);
             User user = userMapper.fromResponseDTO(userResponseDTO);
 
-            if (jwtService.isTokenValid(refreshToken, user)) {
-                var accessToken = jwtService.generateToken(user);
-                revokeAllUserTokens(user);
-                saveUserToken(user, accessToken);
+            if (jwtService.isTokenValid(parsedToken, user)) {
+                var accessToken = issueAccessToken(user);
                 var authResponse = AuthenticationResponse.builder()
                         .accessToken(accessToken)
                         .refreshToken(refreshToken)
@@ -114,26 +110,21 @@ public class AuthenticateServiceImpl implements AuthenticateService {
         }
     }
 
+    private String issueAccessToken(User user) {
+        var jwtToken = jwtService.generateToken(user, tokenVersionCache.increment(user.getId()));
+        saveUserToken(user, jwtToken);
+        return jwtToken;
+    }
+
     private void saveUserToken(User user, String jwtToken) {
         var token = Token.builder()
                 .user(user)
                 .expired(false)
                 .revoked(false)
-                .token(jwtToken)
+                .tokenHash(TokenHash.of(jwtToken))
+                .expiresAt(Instant.now().plusMillis(jwtService.getJwtExpiration()))
                 .tokenType(TokenType.BEARER)
                 .build();
         tokenRepository.save(token);
     }
-
-    private void revokeAllUserTokens(User user) {
-        var validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        if (validUserTokens.isEmpty()) {
-            return;
-        }
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
-    }
 }
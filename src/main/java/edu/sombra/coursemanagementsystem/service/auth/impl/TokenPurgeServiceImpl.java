@@ -0,0 +1,42 @@
+package edu.sombra.coursemanagementsystem.service.auth.impl;
+
+import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import edu.sombra.coursemanagementsystem.service.auth.TokenPurgeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@Slf4j
+@Service
+public class TokenPurgeServiceImpl implements TokenPurgeService {
+    public static final String TOKENS_PURGED = "Purged {} expired or revoked tokens";
+
+    private final TokenRepository tokenRepository;
+    private final int batchSize;
+
+    public TokenPurgeServiceImpl(TokenRepository tokenRepository,
+                                 @Value("${application.security.token.purge.batch-size}") int batchSize) {
+        this.tokenRepository = tokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${application.security.token.purge.delay}", fixedDelayString = "${application.security.token.purge.delay}")
+    @Override
+    public int purgeTokens() {
+        Instant now = Instant.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = tokenRepository.deletePurgeableTokens(now, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info(TOKENS_PURGED, purged);
+        }
+        return purged;
+    }
+}
@@ -2,6 +2,7 @@ package edu.sombra.coursemanagementsystem.service.impl;
 
 import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
 import edu.sombra.coursemanagementsystem.entity.User;
@@ -9,15 +10,14 @@ import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.mapper.CourseFeedbackMapper;
 import edu.sombra.coursemanagementsystem.repository.CourseFeedbackRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
-import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
 import edu.sombra.coursemanagementsystem.service.CourseFeedbackService;
 import edu.sombra.coursemanagementsystem.service.UserService;
-import edu.sombra.coursemanagementsystem.util.BaseUtil;
+import edu.sombra.coursemanagementsystem.util.PatchUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,15 +34,15 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
 
     private final UserService userService;
     private final CourseFeedbackRepository courseFeedbackRepository;
-    private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final CourseFeedbackMapper courseFeedbackMapper;
     private final UserRepository userRepository;
+    private final AuthorizationContext authorizationContext;
 
     public GetCourseFeedbackDTO create(CourseFeedbackDTO courseFeedbackDTO, String instructorEmail) {
         try {
             if (!isFeedbackExist(courseFeedbackDTO.getStudentId(), courseFeedbackDTO.getCourseId())) {
-                User instructor = userRepository.findUserByEmail(instructorEmail);
+                User instructor = authorizationContext.getUser(instructorEmail);
                 CourseFeedback feedback = createFeedback(courseFeedbackDTO, instructor);
                 log.info("Feedback saved successfully");
                 return courseFeedbackMapper.mapToDTO(feedback);
@@ -63,7 +63,7 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
     public GetCourseFeedbackDTO edit(CourseFeedbackDTO courseFeedbackDTO, String instructorEmail) {
         try {
             CourseFeedback existingFeedback = courseFeedbackRepository.findById(courseFeedbackDTO.getId()).orElseThrow();
-            BeanUtils.copyProperties(courseFeedbackDTO, existingFeedback, BaseUtil.getNullPropertyNames(courseFeedbackDTO));
+            PatchUtil.applyPatch(courseFeedbackDTO, existingFeedback);
             courseFeedbackRepository.update(existingFeedback);
             GetCourseFeedbackDTO updatedFeedback = courseFeedbackMapper.mapToDTO(existingFeedback);
             log.info("Course feedback successfully updated!");
@@ -81,14 +81,15 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
     }
 
     @Override
-    public List<GetCourseFeedbackDTO> findAll() {
-        List<CourseFeedback> feedbackList = courseFeedbackRepository.findAll();
-        return courseFeedbackMapper.mapToDTO(feedbackList);
+    public CursorPage<GetCourseFeedbackDTO> findAll(Long after, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<CourseFeedback> feedbackList = courseFeedbackRepository.findAllAfter(after, pageSize + 1);
+        return CursorPage.of(feedbackList, pageSize, CourseFeedback::getId, courseFeedbackMapper::mapToDTO);
     }
 
     @Override
     public GetCourseFeedbackDTO findCourseFeedbackById(Long id, String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
+        User user = authorizationContext.getUser(userEmail);
         CourseFeedback feedback = findById(id);
 
         if (canUserAccessFeedback(user, feedback)) {
@@ -105,7 +106,7 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
         if (userRole.equals(RoleEnum.ADMIN)) {
             return true;
         } else if (userRole.equals(RoleEnum.INSTRUCTOR)) {
-            return enrollmentRepository.isUserAssignedToCourse(feedback.getCourse(), user);
+            return authorizationContext.isEnrolledIn(user, feedback.getCourse().getId());
         } else {
             return feedback.getStudent().getId().equals(user.getId());
         }
@@ -157,6 +158,6 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
 
     private boolean isInstructorAssignedToCourse(Long instructorId, Long courseId) {
         userService.isUserInstructor(instructorId);
-        return courseRepository.isUserAssignedToCourse(instructorId, courseId);
+        return authorizationContext.isEnrolledIn(instructorId, courseId);
     }
 }
@@ -1,5 +1,6 @@
 package edu.sombra.coursemanagementsystem.service.impl;
 
+import edu.sombra.coursemanagementsystem.config.CacheConfig;
 import edu.sombra.coursemanagementsystem.dto.course.CourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.CourseMarkResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
@@ -7,6 +8,7 @@ import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
@@ -28,15 +30,19 @@ import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.CourseService;
 import edu.sombra.coursemanagementsystem.service.EnrollmentService;
 import edu.sombra.coursemanagementsystem.service.LessonService;
 import edu.sombra.coursemanagementsystem.service.UserService;
-import edu.sombra.coursemanagementsystem.util.BaseUtil;
+import edu.sombra.coursemanagementsystem.util.PatchUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -44,8 +50,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 @RequiredArgsConstructor
 @Transactional
@@ -73,6 +79,8 @@ public class CourseServiceImpl implements CourseService {
     private final CourseMapper courseMapper;
     private final CourseMarkMapper courseMarkMapper;
     private final LessonMapper lessonMapper;
+    private final AuthorizationContext authorizationContext;
+    private final EnrollmentCache enrollmentCache;
 
     private static final Long MIN_LESSONS = 5L;
 
@@ -108,6 +116,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
+    @CacheEvict(cacheNames = {CacheConfig.COURSES, CacheConfig.COURSES_BY_NAME, CacheConfig.LESSONS}, allEntries = true)
     public void startCoursesOnSchedule() {
         LocalDate currentDate = LocalDate.now();
         List<Course> coursesToStart = courseRepository.findByStartDate(currentDate);
@@ -118,7 +127,6 @@ public class CourseServiceImpl implements CourseService {
             }
         });
 
-        courseRepository.saveAll(coursesToStart);
         log.info(SCHEDULER_SUCCESSFULLY_STARTED);
     }
 
@@ -132,6 +140,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COURSES_BY_NAME, key = "#courseName")
     public CourseResponseDTO findByName(String courseName) throws EntityNotFoundException {
         Course course = courseRepository.findByName(courseName)
                 .orElseThrow(() -> new EntityNotFoundException(COURSE_NOT_FOUND_WITH_NAME + courseName));
@@ -139,6 +148,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#courseId")
     public CourseResponseDTO findById(Long courseId) {
         Course course = getCourseById(courseId);
         return courseMapper.mapToResponseDTO(course);
@@ -154,6 +164,10 @@ public class CourseServiceImpl implements CourseService {
 
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseDTO.id"),
+            @CacheEvict(cacheNames = {CacheConfig.COURSES_BY_NAME, CacheConfig.LESSONS}, allEntries = true)
+    })
     public CourseResponseDTO update(UpdateCourseDTO courseDTO) {
         try {
             Course existingCourse = courseRepository.findById(courseDTO.getId())
@@ -161,8 +175,7 @@ public class CourseServiceImpl implements CourseService {
             if (!courseDTO.getName().equals(existingCourse.getName()) && (courseRepository.exist(courseDTO.getName()))) {
                 throw new CourseAlreadyExistsException(courseDTO.getName());
             }
-            Course courseFromDTO = courseMapper.fromDTO(courseDTO);
-            BeanUtils.copyProperties(courseFromDTO, existingCourse, BaseUtil.getNullPropertyNames(courseFromDTO));
+            PatchUtil.applyPatch(courseDTO, existingCourse);
             Course updatedCourse = courseRepository.update(existingCourse);
             return courseMapper.mapToResponseDTO(updatedCourse);
         } catch (Exception e) {
@@ -171,6 +184,10 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.COURSES_BY_NAME, CacheConfig.LESSONS}, allEntries = true)
+    })
     public void delete(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> {
@@ -178,12 +195,14 @@ public class CourseServiceImpl implements CourseService {
                     return new EntityNotFoundException(COURSE_NOT_FOUND_WITH_ID + id);
                 });
         courseRepository.delete(course);
+        enrollmentCache.evictAll();
     }
 
     @Override
-    public List<CourseResponseDTO> findAllCourses() {
-        List<Course> courseList = courseRepository.findAll();
-        return courseMapper.mapToResponsesDTO(courseList);
+    public CursorPage<CourseResponseDTO> findAllCourses(Long after, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<Course> courseList = courseRepository.findAllAfter(after, pageSize + 1);
+        return CursorPage.of(courseList, pageSize, Course::getId, courseMapper::mapToResponsesDTO);
     }
 
     @Override
@@ -210,7 +229,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     private User getUserByEmail(String userEmail) {
-        return userRepository.findUserByEmail(userEmail);
+        return authorizationContext.getUser(userEmail);
     }
 
     private List<CourseResponseDTO> handleAdminCase(Long userId) {
@@ -248,11 +267,7 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public List<LessonResponseDTO> findAllLessonsByCourse(Long id) {
-        List<Lesson> lessons = courseRepository.findAllLessonsInCourse(id).orElseThrow(EntityNotFoundException::new);
-        List<CourseResponseDTO> courseResponseList = lessons.stream()
-                .map(lesson -> courseMapper.mapToResponseDTO(lesson.getCourse()))
-                .toList();
-        return lessonMapper.mapToResponsesDTO(lessons, courseResponseList);
+        return lessonService.findAllLessonsByCourse(id);
     }
 
     @Override
@@ -279,12 +294,10 @@ public class CourseServiceImpl implements CourseService {
 
             CourseFeedback feedback = courseFeedbackRepository.findFeedback(studentId, courseId).orElse(null);
 
-            //TODO: rewrite with batch get
+            Map<Long, Homework> homeworksByLessonId = homeworkRepository.findAllByUserAndCourseId(studentId, courseId);
+
             List<LessonDTO> lessonDTO = lessons.stream()
-                    .map(lesson -> {
-                        Optional<Homework> homeworkOptional = homeworkRepository.findByUserAndLessonId(studentId, lesson.getId());
-                        return lessonMapper.toDTO(lesson, homeworkOptional.orElse(null));
-                    })
+                    .map(lesson -> lessonMapper.toDTO(lesson, homeworksByLessonId.get(lesson.getId())))
                     .toList();
 
             return courseMapper.toDTO(course, courseMark, feedback, lessonDTO);
@@ -305,6 +318,10 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId"),
+            @CacheEvict(cacheNames = {CacheConfig.COURSES_BY_NAME, CacheConfig.LESSONS}, allEntries = true)
+    })
     public CourseResponseDTO startOrStopCourse(Long courseId, String action) {
         Course course = getCourseById(courseId);
         if (action.equals("start")) {
@@ -325,7 +342,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     private void isUserAssignedToCourse(Long studentId, Long courseId) {
-        boolean isAssigned = courseRepository.isUserAssignedToCourse(studentId, courseId);
+        boolean isAssigned = authorizationContext.isEnrolledIn(studentId, courseId);
         if (!isAssigned) {
             log.error(USER_IS_NOT_ASSIGNED_TO_THIS_COURSE, studentId, courseId);
             throw new EntityNotFoundException(USER_IS_NOT_ASSIGNED_TO_THIS_COURSE);
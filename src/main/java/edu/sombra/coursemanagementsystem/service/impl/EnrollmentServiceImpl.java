@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.service.impl;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentApplyForCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetByNameDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetDTO;
@@ -8,7 +10,6 @@ import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentUpdateDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Enrollment;
-import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.EnrollmentException;
@@ -19,6 +20,8 @@ import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.EnrollmentService;
 import edu.sombra.coursemanagementsystem.util.BaseUtil;
 import jakarta.persistence.EntityNotFoundException;
@@ -27,7 +30,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -43,6 +51,9 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     public static final String USER_HAS_ALREADY_ASSIGNED_FOR_5_COURSES = "User has already assigned for 5 courses";
     public static final String USER_IS_ALREADY_ASSIGNED_TO_THIS_COURSE = "User is already assigned to this course";
     public static final String FAILED_TO_FIND_COURSES_FOR_USER = "Failed to find courses for user";
+    public static final String BULK_ENROLLMENT_SIZE_EXCEEDED = "Too many users in one bulk enrollment, maximum is ";
+    public static final String USERS_ENROLLED_TO_COURSE = "{} users enrolled to course {}";
+    public static final int MAX_BULK_ENROLLMENT_SIZE = 1000;
 
     private final EnrollmentRepository enrollmentRepository;
     private final CourseMapper courseMapper;
@@ -50,6 +61,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final UserRepository userRepository;
     private final HomeworkRepository homeworkRepository;
     private final EnrollmentMapper enrollmentMapper;
+    private final AuthorizationContext authorizationContext;
+    private final EnrollmentCache enrollmentCache;
 
     private static final Long COURSE_LIMIT = 5L;
 
@@ -65,6 +78,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
             Enrollment enrollment = buildEnrollment(course, instructor);
             Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+            enrollmentCache.evict(instructor.getId());
             return enrollmentMapper.mapToResponseDTO(savedEnrollment);
         } catch (EnrollmentException ex) {
             log.error(ex.getMessage());
@@ -103,6 +117,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .orElseThrow(() -> new EntityNotFoundException(ENTITY_NOT_FOUND_WITH_ID + id));
 
         enrollmentRepository.delete(enrollment);
+        enrollmentCache.evict(enrollment.getUser().getId());
     }
 
     private List<User> getListOfInstructorsForCourse(Long id) {
@@ -135,24 +150,23 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Course course = courseRepository.findById(updateDTO.getCourseId())
                 .orElseThrow(
                 () -> new EntityNotFoundException("Course not found!"));
+        Long previousUserId = existingEnrollment.getUser().getId();
         existingEnrollment.setCourse(course);
         existingEnrollment.setUser(user);
         Enrollment enrollment = enrollmentRepository.update(existingEnrollment);
+        enrollmentCache.evict(previousUserId);
+        enrollmentCache.evict(user.getId());
         return enrollmentMapper.mapToDTO(enrollment);
     }
 
     @Override
     public EnrollmentResponseDTO applyForCourse(EnrollmentApplyForCourseDTO applyForCourseDTO, String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
-        if (!user.getRole().equals(RoleEnum.ADMIN)) {
-            Long numberOfUserCourses = enrollmentRepository.getUserRegisteredCourseCount(user.getId());
-            return assignUserForLesson(applyForCourseDTO, numberOfUserCourses, user);
-        } else {
-            User student = userRepository.findById(applyForCourseDTO.getUserId())
-                    .orElseThrow(EntityNotFoundException::new);
-            Long numberOfUserCourses = enrollmentRepository.getUserRegisteredCourseCount(applyForCourseDTO.getUserId());
-            return assignUserForLesson(applyForCourseDTO, numberOfUserCourses, student);
-        }
+        User user = authorizationContext.getUser(userEmail);
+        Long studentId = user.getRole().equals(RoleEnum.ADMIN) ? applyForCourseDTO.getUserId() : user.getId();
+        User student = userRepository.findById(studentId)
+                .orElseThrow(EntityNotFoundException::new);
+        Long numberOfUserCourses = enrollmentRepository.getUserRegisteredCourseCount(studentId);
+        return assignUserForLesson(applyForCourseDTO, numberOfUserCourses, student);
     }
 
     private EnrollmentResponseDTO assignUserForLesson(EnrollmentApplyForCourseDTO applyForCourseDTO, Long numberOfUserCourses, User user) {
@@ -161,16 +175,52 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             isUserAlreadyAssigned(course, user);
             Enrollment enrollment = buildEnrollment(course, user);
             enrollmentRepository.save(enrollment);
-            List<Lesson> lessons = courseRepository.findAllLessonsInCourse(course.getId()).orElseThrow(EntityNotFoundException::new);
-            for (Lesson lesson : lessons) {
-                homeworkRepository.assignUserForLesson(user.getId(), lesson.getId());
-            }
+            enrollmentCache.evict(user.getId());
+            homeworkRepository.assignUsersToCourseLessons(List.of(user.getId()), course.getId());
             return enrollmentMapper.mapToResponseDTO(enrollment);
         } else {
             throw new EnrollmentException(USER_HAS_ALREADY_ASSIGNED_FOR_5_COURSES);
         }
     }
 
+    @Override
+    public BulkEnrollmentResponseDTO bulkEnroll(BulkEnrollmentDTO bulkEnrollmentDTO) {
+        List<Long> requestedUserIds = Optional.ofNullable(bulkEnrollmentDTO.getUserIds()).orElse(List.of()).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (requestedUserIds.isEmpty()) {
+            throw new EnrollmentException(ELEMENTS_ARE_EMPTY);
+        }
+        if (requestedUserIds.size() > MAX_BULK_ENROLLMENT_SIZE) {
+            throw new EnrollmentException(BULK_ENROLLMENT_SIZE_EXCEEDED + MAX_BULK_ENROLLMENT_SIZE);
+        }
+        Course course = courseRepository.findByName(bulkEnrollmentDTO.getCourseName()).orElseThrow(EntityNotFoundException::new);
+
+        Set<Long> assignedUserIds = enrollmentRepository.findUserIdsAssignedToCourse(course.getId(), requestedUserIds);
+        Map<Long, Long> courseCounts = enrollmentRepository.getUserRegisteredCourseCounts(requestedUserIds);
+        List<Long> eligibleUserIds = requestedUserIds.stream()
+                .filter(userId -> !assignedUserIds.contains(userId))
+                .filter(userId -> courseCounts.getOrDefault(userId, 0L) < COURSE_LIMIT)
+                .toList();
+
+        Set<Long> enrolledUserIds = eligibleUserIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(enrollmentRepository.enrollUsers(eligibleUserIds, course.getId()));
+        if (!enrolledUserIds.isEmpty()) {
+            enrolledUserIds.forEach(enrollmentCache::evict);
+            homeworkRepository.assignUsersToCourseLessons(enrolledUserIds, course.getId());
+        }
+        log.info(USERS_ENROLLED_TO_COURSE, enrolledUserIds.size(), course.getName());
+
+        return BulkEnrollmentResponseDTO.builder()
+                .courseId(course.getId())
+                .courseName(course.getName())
+                .enrolledUserIds(requestedUserIds.stream().filter(enrolledUserIds::contains).toList())
+                .skippedUserIds(requestedUserIds.stream().filter(userId -> !enrolledUserIds.contains(userId)).toList())
+                .build();
+    }
+
     @Override
     public void isUserAlreadyAssigned(Course course, User user) {
         boolean userAssigned = enrollmentRepository.isUserAssignedToCourse(course, user);
@@ -201,9 +251,6 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
     @Override
     public boolean isUserAssignedToCourse(Long userId, Long homeworkId) {
-        Course course = courseRepository.findCourseByHomeworkId(homeworkId)
-                .orElseThrow(EntityNotFoundException::new);
-        User user = userRepository.findById(userId).orElseThrow();
-        return enrollmentRepository.isUserAssignedToCourse(course, user);
+        return enrollmentRepository.isUserAssignedToHomeworkCourse(userId, homeworkId);
     }
 }
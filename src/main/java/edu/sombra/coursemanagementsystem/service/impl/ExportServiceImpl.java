@@ -0,0 +1,69 @@
+package edu.sombra.coursemanagementsystem.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.sombra.coursemanagementsystem.dto.course.CourseMarkExportDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO;
+import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
+import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
+import edu.sombra.coursemanagementsystem.service.ExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+    public static final String EXPORT_FINISHED = "Exported {} {} rows";
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final HomeworkRepository homeworkRepository;
+    private final CourseMarkRepository courseMarkRepository;
+    private final ObjectWriter objectWriter;
+    private final int fetchSize;
+
+    public ExportServiceImpl(HomeworkRepository homeworkRepository,
+                             CourseMarkRepository courseMarkRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${application.export.fetch-size}") int fetchSize) {
+        this.homeworkRepository = homeworkRepository;
+        this.courseMarkRepository = courseMarkRepository;
+        this.objectWriter = objectMapper.writer();
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportHomeworks(OutputStream outputStream) throws IOException {
+        try (Stream<HomeworkExportDTO> homeworks = homeworkRepository.streamAllForExport(fetchSize)) {
+            long count = writeNdjson(homeworks, outputStream);
+            log.info(EXPORT_FINISHED, count, "homework");
+        }
+    }
+
+    @Override
+    public void exportCourseMarks(OutputStream outputStream) throws IOException {
+        try (Stream<CourseMarkExportDTO> courseMarks = courseMarkRepository.streamAllForExport(fetchSize)) {
+            long count = writeNdjson(courseMarks, outputStream);
+            log.info(EXPORT_FINISHED, count, "course mark");
+        }
+    }
+
+    private long writeNdjson(Stream<?> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            outputStream.write(objectWriter.writeValueAsBytes(iterator.next()));
+            outputStream.write(LINE_SEPARATOR);
+            count++;
+        }
+        outputStream.flush();
+        return count;
+    }
+}
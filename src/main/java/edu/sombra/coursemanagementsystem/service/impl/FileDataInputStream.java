@@ -0,0 +1,58 @@
+package edu.sombra.coursemanagementsystem.service.impl;
+
+import edu.sombra.coursemanagementsystem.repository.FileRepository;
+
+import java.io.InputStream;
+
+class FileDataInputStream extends InputStream {
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final FileRepository fileRepository;
+    private final Long fileId;
+    private final long size;
+    private long position;
+    private byte[] chunk = new byte[0];
+    private int chunkPosition;
+
+    FileDataInputStream(FileRepository fileRepository, Long fileId, long size) {
+        this.fileRepository = fileRepository;
+        this.fileId = fileId;
+        this.size = size;
+    }
+
+    @Override
+    public int read() {
+        if (!hasRemaining()) {
+            return -1;
+        }
+        return chunk[chunkPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, chunk.length - chunkPosition);
+        System.arraycopy(chunk, chunkPosition, buffer, offset, count);
+        chunkPosition += count;
+        return count;
+    }
+
+    private boolean hasRemaining() {
+        if (chunkPosition < chunk.length) {
+            return true;
+        }
+        if (position >= size) {
+            return false;
+        }
+        int length = (int) Math.min(CHUNK_SIZE, size - position);
+        chunk = fileRepository.readFileData(fileId, position, length);
+        chunkPosition = 0;
+        position += length;
+        return chunk != null && chunk.length > 0;
+    }
+}
@@ -12,18 +12,21 @@ import edu.sombra.coursemanagementsystem.repository.FileRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
 import edu.sombra.coursemanagementsystem.service.FileService;
+import edu.sombra.coursemanagementsystem.service.FileStorage;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @AllArgsConstructor
@@ -45,6 +48,8 @@ public class FileServiceImpl implements FileService {
     private final CourseRepository courseRepository;
     private final LessonRepository lessonRepository;
     private final FileMapper fileMapper;
+    private final FileStorage fileStorage;
+    private final AuthorizationContext authorizationContext;
 
     @Override
     public FileResponseDTO saveFile(MultipartFile uploadedFile, Long lessonId, Long userId) throws IOException {
@@ -52,9 +57,14 @@ public class FileServiceImpl implements FileService {
             validateInput(uploadedFile, lessonId, userId);
             Homework existingHomework = findExistingHomework(lessonId, userId);
 
+            String contentHash;
+            try (InputStream inputStream = uploadedFile.getInputStream()) {
+                contentHash = fileStorage.store(inputStream);
+            }
             File file = fileRepository.save(File.builder()
                     .fileName(uploadedFile.getOriginalFilename())
-                    .fileData(uploadedFile.getBytes())
+                    .fileSize(uploadedFile.getSize())
+                    .contentHash(contentHash)
                     .build());
             log.info(FILE_UPLOADED_SUCCESSFULLY_WITH_NAME, uploadedFile.getOriginalFilename());
 
@@ -94,10 +104,10 @@ public class FileServiceImpl implements FileService {
     @Override
     public Resource downloadFile(Long fileId, String userEmail) {
         File file = getFileDataById(fileId);
-        User user = userRepository.findUserByEmail(userEmail);
+        User user = authorizationContext.getUser(userEmail);
 
         if (canUserAccessFile(user, fileId)) {
-            if (file.getFileName() != null && file.getFileData() != null) {
+            if (file.getFileName() != null && file.getFileSize() != null) {
                 return createFileResource(file);
             } else {
                 log.error(FILE_WITH_ID_NOT_FOUND, fileId);
@@ -113,33 +123,41 @@ public class FileServiceImpl implements FileService {
             return true;
         } else if (user.getRole().equals(RoleEnum.INSTRUCTOR)){
             Course course = courseRepository.findCourseByFileId(fileId).orElseThrow();
-            return courseRepository.isUserAssignedToCourse(user.getId(), course.getId());
+            return authorizationContext.isEnrolledIn(user, course.getId());
         } else if (user.getRole().equals(RoleEnum.STUDENT)) {
             return homeworkRepository.isUserUploadedHomework(fileId, user.getId());
         }
         return false;
     }
 
-    private ByteArrayResource createFileResource(File file) {
-        return new ByteArrayResource(file.getFileData()) {
+    private Resource createFileResource(File file) {
+        if (file.getContentHash() != null) {
+            return fileStorage.load(file.getContentHash(), file.getFileName());
+        }
+        return new InputStreamResource(new FileDataInputStream(fileRepository, file.getId(), file.getFileSize())) {
             @Override
             public String getFilename() {
                 return file.getFileName();
             }
+
+            @Override
+            public long contentLength() {
+                return file.getFileSize();
+            }
         };
     }
 
     @Override
     public void delete(Long fileId, String userEmail) {
         try {
-            User user = userRepository.findUserByEmail(userEmail);
+            User user = authorizationContext.getUser(userEmail);
             File file = findFileById(fileId);
             if (user.getRole().equals(RoleEnum.ADMIN)) {
-                fileRepository.delete(file);
+                deleteFile(file);
                 log.info(FILE_DELETED_SUCCESSFULLY_BY_ADMIN);
             } else {
                 if (homeworkRepository.isUserUploadedHomework(fileId, user.getId())) {
-                    fileRepository.delete(file);
+                    deleteFile(file);
                     log.info(FILE_DELETED_SUCCESSFULLY);
                 } else {
                     throw new IllegalArgumentException(USER_HAS_NO_PERMISSION_TO_DELETE_THIS_HOMEWORK);
@@ -150,6 +168,12 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    private void deleteFile(File file) {
+        // Stored content may be shared or about to be referenced by a concurrent upload,
+        // so unreferenced content is left to the orphan sweep and its grace period.
+        fileRepository.delete(file);
+    }
+
     private File findFileById(Long fileId) {
         return fileRepository.findById(fileId)
                 .orElseThrow(() -> new EntityNotFoundException(FILE_NOT_FOUND));
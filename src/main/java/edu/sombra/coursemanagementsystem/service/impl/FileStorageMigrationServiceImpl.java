@@ -0,0 +1,96 @@
+package edu.sombra.coursemanagementsystem.service.impl;
+
+import edu.sombra.coursemanagementsystem.entity.File;
+import edu.sombra.coursemanagementsystem.repository.FileRepository;
+import edu.sombra.coursemanagementsystem.service.FileStorage;
+import edu.sombra.coursemanagementsystem.service.FileStorageMigrationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@Transactional
+public class FileStorageMigrationServiceImpl implements FileStorageMigrationService {
+    public static final String FILES_MOVED_TO_STORAGE = "Moved {} of {} files from database to file storage";
+    public static final String FAILED_TO_MOVE_FILE = "Failed to move file with ID {} to file storage";
+    public static final String ORPHANED_CONTENT_DELETED = "Deleted {} stored files without a database row";
+    public static final String FAILED_TO_LIST_CONTENT = "Failed to list stored files";
+    public static final String FAILED_TO_DELETE_CONTENT = "Failed to delete orphaned content {}";
+
+    private final FileRepository fileRepository;
+    private final FileStorage fileStorage;
+    private final int batchSize;
+    private final long orphanGracePeriod;
+
+    public FileStorageMigrationServiceImpl(FileRepository fileRepository, FileStorage fileStorage,
+                                           @Value("${application.storage.migration.batch-size}") int batchSize,
+                                           @Value("${application.storage.orphan-sweep.grace-period}") long orphanGracePeriod) {
+        this.fileRepository = fileRepository;
+        this.fileStorage = fileStorage;
+        this.batchSize = batchSize;
+        this.orphanGracePeriod = orphanGracePeriod;
+    }
+
+    @Scheduled(initialDelayString = "${application.storage.migration.delay}", fixedDelayString = "${application.storage.migration.delay}")
+    @Override
+    public int migrateLegacyFiles() {
+        List<File> files = fileRepository.findFilesStoredInDatabase(batchSize);
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        int moved = 0;
+        for (File file : files) {
+            try (InputStream inputStream = new FileDataInputStream(fileRepository, file.getId(), file.getFileSize())) {
+                String contentHash = fileStorage.store(inputStream);
+                fileRepository.markFileDataMoved(file.getId(), contentHash);
+                moved++;
+            } catch (IOException e) {
+                log.error(FAILED_TO_MOVE_FILE, file.getId(), e);
+            }
+        }
+        log.info(FILES_MOVED_TO_STORAGE, moved, files.size());
+        return moved;
+    }
+
+    @Scheduled(initialDelayString = "${application.storage.orphan-sweep.delay}", fixedDelayString = "${application.storage.orphan-sweep.delay}")
+    @Override
+    public int deleteOrphanedContent() {
+        List<String> contentHashes;
+        try {
+            contentHashes = fileStorage.findContentStoredBefore(Instant.now().minusMillis(orphanGracePeriod));
+        } catch (IOException e) {
+            log.error(FAILED_TO_LIST_CONTENT, e);
+            return 0;
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < contentHashes.size(); from += batchSize) {
+            List<String> batch = contentHashes.subList(from, Math.min(from + batchSize, contentHashes.size()));
+            Set<String> referenced = fileRepository.findExistingContentHashes(batch);
+            for (String contentHash : batch) {
+                if (!referenced.contains(contentHash)) {
+                    try {
+                        fileStorage.delete(contentHash);
+                        deleted++;
+                    } catch (IOException e) {
+                        log.error(FAILED_TO_DELETE_CONTENT, contentHash, e);
+                    }
+                }
+            }
+        }
+        if (deleted > 0) {
+            log.info(ORPHANED_CONTENT_DELETED, deleted);
+        }
+        return deleted;
+    }
+}
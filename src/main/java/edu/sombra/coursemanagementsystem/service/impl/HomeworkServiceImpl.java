@@ -1,27 +1,38 @@
 package edu.sombra.coursemanagementsystem.service.impl;
 
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkMarkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.CourseGradeAggregate;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.UserNotAssignedToCourseException;
 import edu.sombra.coursemanagementsystem.mapper.HomeworkMapper;
+import edu.sombra.coursemanagementsystem.repository.CourseGradeAggregateRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
 import edu.sombra.coursemanagementsystem.service.CourseMarkService;
 import edu.sombra.coursemanagementsystem.service.EnrollmentService;
 import edu.sombra.coursemanagementsystem.service.HomeworkService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Transactional
 @AllArgsConstructor
@@ -37,6 +48,14 @@ public class HomeworkServiceImpl implements HomeworkService {
     public static final String USER_ISN_T_ASSIGNED_TO_THIS_COURSE = "User isn't assigned to this course";
     public static final String USER_CANT_WATCH_THIS_HOMEWORK = "User can't watch this homework";
     public static final String ROLE_DOESNT_EXIST = "User with this role doesn't exist";
+    public static final String MARKS_ARE_EMPTY = "Marks are empty!";
+    public static final String BULK_MARK_SIZE_EXCEEDED = "Too many marks in one request, maximum is ";
+    public static final String HOMEWORK_ID_CANNOT_BE_NULL = "Homework id cannot be null";
+    public static final String DUPLICATE_HOMEWORK_MARK = "Homework is marked more than once: ";
+    public static final String HOMEWORKS_NOT_FOUND = "Some homeworks were not found";
+    public static final String USER_HASN_T_ACCESS_TO_COURSE = "User hasn't access to course: ";
+    public static final String MARKS_SAVED_SUCCESSFULLY = "{} marks saved successfully";
+    public static final int MAX_BULK_MARK_SIZE = 1000;
 
     private final HomeworkRepository homeworkRepository;
     private final CourseMarkService courseMarkService;
@@ -45,6 +64,8 @@ public class HomeworkServiceImpl implements HomeworkService {
     private final HomeworkMapper homeworkMapper;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
+    private final CourseGradeAggregateRepository courseGradeAggregateRepository;
+    private final AuthorizationContext authorizationContext;
 
     @Override
     public void save(Homework homework) {
@@ -60,14 +81,10 @@ public class HomeworkServiceImpl implements HomeworkService {
         try {
             if (enrollmentService.isUserAssignedToCourse(userId, homeworkId)) {
                 if (mark >= 0 && mark <= 100) {
-                    homeworkRepository.setMark(homeworkId, mark);
-                    log.info(MARK_SAVED_SUCCESSFULLY);
-                    Lesson lesson = lessonRepository.findLessonByHomeworkId(homeworkId)
+                    MarkChangeDTO markChange = homeworkRepository.setMark(homeworkId, mark)
                             .orElseThrow(EntityNotFoundException::new);
-
-                    Double averageMark = homeworkRepository.calculateAverageHomeworksMarkByUserId(userId, lesson.getCourse().getId());
-                    boolean isAllHomeworksGraded = isAllHomeworksGraded(userId, lesson.getCourse().getId());
-                    courseMarkService.saveTotalMark(userId, lesson.getCourse().getId(), averageMark, isAllHomeworksGraded);
+                    log.info(MARK_SAVED_SUCCESSFULLY);
+                    updateTotalMark(markChange.getUserId(), markChange.getCourseId(), List.of(markChange));
                     return findAndMapToDTO(homeworkId);
                 } else {
                     log.error(INVALID_MARK_VALUE_MARK_SHOULD_BE_BETWEEN_0_AND_100_BUT_NOW_MARK_IS, mark);
@@ -82,14 +99,60 @@ public class HomeworkServiceImpl implements HomeworkService {
         }
     }
 
-    private boolean isAllHomeworksGraded(Long userId, Long courseId) {
-        List<Homework> homeworks = homeworkRepository.findHomeworksByCourse(courseId);
-        for (Homework homework : homeworks) {
-            if (homework.getUser().getId().equals(userId) && (homework.getMark() == null)) {
-                return false;
+    @Override
+    public List<GetHomeworkDTO> setMarks(List<HomeworkMarkDTO> marks, String userEmail) {
+        Map<Long, Long> marksByHomeworkId = collectMarks(marks);
+        User user = authorizationContext.getUser(userEmail);
+        Map<Long, Long> courseIdsByHomeworkId = homeworkRepository.findCourseIdsByHomeworkIds(marksByHomeworkId.keySet());
+        if (courseIdsByHomeworkId.size() != marksByHomeworkId.size()) {
+            throw new EntityNotFoundException(HOMEWORKS_NOT_FOUND);
+        }
+        if (!user.getRole().equals(RoleEnum.ADMIN)) {
+            for (Long courseId : new HashSet<>(courseIdsByHomeworkId.values())) {
+                if (!authorizationContext.isEnrolledIn(user, courseId)) {
+                    throw new AccessDeniedException(USER_HASN_T_ACCESS_TO_COURSE + courseId);
+                }
             }
         }
-        return true;
+
+        List<MarkChangeDTO> markChanges = homeworkRepository.setMarks(marksByHomeworkId);
+        log.info(MARKS_SAVED_SUCCESSFULLY, markChanges.size());
+        markChanges.stream()
+                .collect(Collectors.groupingBy(MarkChangeDTO::getUserId, Collectors.groupingBy(MarkChangeDTO::getCourseId)))
+                .forEach((userId, changesByCourse) -> changesByCourse
+                        .forEach((courseId, changes) -> updateTotalMark(userId, courseId, changes)));
+        return homeworkMapper.mapToDTO(homeworkRepository.findAllByIds(marksByHomeworkId.keySet()));
+    }
+
+    private Map<Long, Long> collectMarks(List<HomeworkMarkDTO> marks) {
+        if (marks == null || marks.isEmpty()) {
+            throw new IllegalArgumentException(MARKS_ARE_EMPTY);
+        }
+        if (marks.size() > MAX_BULK_MARK_SIZE) {
+            throw new IllegalArgumentException(BULK_MARK_SIZE_EXCEEDED + MAX_BULK_MARK_SIZE);
+        }
+        Map<Long, Long> marksByHomeworkId = new LinkedHashMap<>();
+        for (HomeworkMarkDTO mark : marks) {
+            if (mark.getHomeworkId() == null) {
+                throw new IllegalArgumentException(HOMEWORK_ID_CANNOT_BE_NULL);
+            }
+            if (mark.getMark() == null || mark.getMark() < 0 || mark.getMark() > 100) {
+                log.error(INVALID_MARK_VALUE_MARK_SHOULD_BE_BETWEEN_0_AND_100_BUT_NOW_MARK_IS, mark.getMark());
+                throw new IllegalArgumentException(INVALID_MARK_VALUE_MARK_SHOULD_BE_BETWEEN_0_AND_100);
+            }
+            if (marksByHomeworkId.putIfAbsent(mark.getHomeworkId(), mark.getMark()) != null) {
+                throw new IllegalArgumentException(DUPLICATE_HOMEWORK_MARK + mark.getHomeworkId());
+            }
+        }
+        return marksByHomeworkId;
+    }
+
+    private void updateTotalMark(Long userId, Long courseId, List<MarkChangeDTO> markChanges) {
+        long markSumDelta = markChanges.stream().mapToLong(MarkChangeDTO::getMarkSumDelta).sum();
+        long gradedCountDelta = markChanges.stream().mapToLong(MarkChangeDTO::getGradedCountDelta).sum();
+        CourseGradeAggregate aggregate = courseGradeAggregateRepository.applyDelta(userId, courseId,
+                markSumDelta, gradedCountDelta, -gradedCountDelta);
+        courseMarkService.saveTotalMark(userId, courseId, aggregate.getAverageMark(), aggregate.isAllHomeworksGraded());
     }
 
     @Override
@@ -100,12 +163,12 @@ public class HomeworkServiceImpl implements HomeworkService {
     @Override
     public GetHomeworkDTO findHomeworkById(Long homeworkId, String userEmail) {
         try {
-            User user = userRepository.findUserByEmail(userEmail);
+            User user = authorizationContext.getUser(userEmail);
             if (user.getRole().equals(RoleEnum.ADMIN)) {
                 return findAndMapToDTO(homeworkId);
             } else {
                 Course course = courseRepository.findCourseByHomeworkId(homeworkId).orElseThrow(EntityNotFoundException::new);
-                boolean isUserAssignedToCourse = courseRepository.isUserAssignedToCourse(user.getId(), course.getId());
+                boolean isUserAssignedToCourse = authorizationContext.isEnrolledIn(user, course.getId());
                 if (isUserAssignedToCourse) {
                     return findAndMapToDTO(homeworkId);
                 } else {
@@ -127,23 +190,28 @@ public class HomeworkServiceImpl implements HomeworkService {
     public void deleteHomework(Long homeworkId) {
         Homework homework = findHomework(homeworkId);
         homeworkRepository.delete(homework);
-        Double averageMark = homeworkRepository.calculateAverageHomeworksMarkByUserId(homework.getUser().getId(), homework.getLesson().getCourse().getId());
-        courseMarkService.saveTotalMark(homework.getUser().getId(), homework.getLesson().getCourse().getId(), averageMark, false);
+        Long userId = homework.getUser().getId();
+        Long courseId = homework.getLesson().getCourse().getId();
+        boolean isGraded = homework.getMark() != null;
+        CourseGradeAggregate aggregate = courseGradeAggregateRepository.applyDelta(userId, courseId,
+                isGraded ? -homework.getMark() : 0, isGraded ? -1 : 0, isGraded ? 0 : -1);
+        courseMarkService.saveTotalMark(userId, courseId, aggregate.getAverageMark(), aggregate.isAllHomeworksGraded());
         log.info(HOMEWORK_DELETED_SUCCESSFULLY);
     }
 
     @Override
-    public List<GetHomeworkDTO> getAllHomeworks(String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
+    public CursorPage<GetHomeworkDTO> getAllHomeworks(String userEmail, Long after, int limit) {
+        User user = authorizationContext.getUser(userEmail);
         if (user.getRole().equals(RoleEnum.ADMIN)) {
-            List<Homework> homeworkList = homeworkRepository.findAll();
-            return homeworkMapper.mapToDTO(homeworkList);
+            int pageSize = CursorPage.normalizeLimit(limit);
+            List<Homework> homeworkList = homeworkRepository.findAllAfter(after, pageSize + 1);
+            return CursorPage.of(homeworkList, pageSize, Homework::getId, homeworkMapper::mapToDTO);
         } else if (user.getRole().equals(RoleEnum.STUDENT)) {
             List<Homework> homeworkList = homeworkRepository.findAllByUser(user.getId());
-            return homeworkMapper.mapToDTO(homeworkList);
+            return CursorPage.lastPage(homeworkMapper.mapToDTO(homeworkList));
         } else if (user.getRole().equals(RoleEnum.INSTRUCTOR)) {
             List<Homework> homeworksWithInstructorAccess = homeworkRepository.findAllHomeworksWithInstructorAccess(user.getId());
-            return homeworkMapper.mapToDTO(homeworksWithInstructorAccess);
+            return CursorPage.lastPage(homeworkMapper.mapToDTO(homeworksWithInstructorAccess));
         } else {
             throw new IllegalArgumentException("Invalid user role");
         }
@@ -159,7 +227,7 @@ public class HomeworkServiceImpl implements HomeworkService {
     @Override
     public GetHomeworkDTO findHomeworkByUserAndLessonId(Long userId, Long lessonId, String userEmail) {
         try {
-            User user = userRepository.findUserByEmail(userEmail);
+            User user = authorizationContext.getUser(userEmail);
             var lesson = lessonRepository.findById(lessonId)
                     .orElseThrow(EntityNotFoundException::new);
 
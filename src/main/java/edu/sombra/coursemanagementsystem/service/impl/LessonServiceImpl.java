@@ -1,9 +1,12 @@
 package edu.sombra.coursemanagementsystem.service.impl;
 
+import edu.sombra.coursemanagementsystem.config.CacheConfig;
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.CreateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.UpdateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
@@ -11,18 +14,22 @@ import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.LessonException;
 import edu.sombra.coursemanagementsystem.mapper.CourseMapper;
 import edu.sombra.coursemanagementsystem.mapper.LessonMapper;
+import edu.sombra.coursemanagementsystem.repository.CourseGradeAggregateRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
-import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
-import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
 import edu.sombra.coursemanagementsystem.service.LessonService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.LongStream;
 
 @Slf4j
@@ -37,10 +44,11 @@ public class LessonServiceImpl implements LessonService {
     public static final String COURSE_NOT_FOUND = "Course not found!";
     private final LessonRepository lessonRepository;
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final CourseGradeAggregateRepository courseGradeAggregateRepository;
     private final LessonMapper lessonMapper;
     private final CourseMapper courseMapper;
+    private final AuthorizationContext authorizationContext;
+    private final CacheManager cacheManager;
 
     @Override
     public LessonResponseDTO save(CreateLessonDTO lessonDTO) {
@@ -56,52 +64,54 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     public LessonResponseDTO findById(Long lessonId, String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
+        User user = authorizationContext.getUser(userEmail);
+        Cache lessonCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.LESSONS));
+        LessonResponseDTO cachedLesson = lessonCache.get(lessonId, LessonResponseDTO.class);
+        if (cachedLesson != null) {
+            if (!user.getRole().equals(RoleEnum.ADMIN)) {
+                checkLessonAccess(user, cachedLesson.getCourse().getCourseId());
+            }
+            return cachedLesson;
+        }
         Lesson lesson = lessonRepository.findById(lessonId)
                 .orElseThrow(() -> new EntityNotFoundException(LESSON_NOT_FOUND));
-        if (user.getRole().equals(RoleEnum.ADMIN)) {
-            CourseResponseDTO courseResponse = courseMapper.mapToResponseDTO(lesson.getCourse());
-            return lessonMapper.mapToResponseDTO(lesson, courseResponse);
-        } else {
-            boolean isUserAssignedToCourse = enrollmentRepository.isUserAssignedToCourse(lesson.getCourse(), user);
-            if (isUserAssignedToCourse) {
-                CourseResponseDTO courseResponse = courseMapper.mapToResponseDTO(lesson.getCourse());
-                return lessonMapper.mapToResponseDTO(lesson, courseResponse);
-            } else {
-                throw new IllegalArgumentException("User hasn't access to this lesson!");
-            }
+        if (!user.getRole().equals(RoleEnum.ADMIN)) {
+            checkLessonAccess(user, lesson.getCourse().getId());
+        }
+        CourseResponseDTO courseResponse = courseMapper.mapToResponseDTO(lesson.getCourse());
+        LessonResponseDTO lessonResponse = lessonMapper.mapToResponseDTO(lesson, courseResponse);
+        lessonCache.put(lessonId, lessonResponse);
+        return lessonResponse;
+    }
+
+    private void checkLessonAccess(User user, Long courseId) {
+        if (!authorizationContext.isEnrolledIn(user, courseId)) {
+            throw new IllegalArgumentException("User hasn't access to this lesson!");
         }
     }
 
     @Override
-    public List<LessonResponseDTO> findAllLessons(String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
+    public CursorPage<LessonResponseDTO> findAllLessons(String userEmail, Long after, int limit) {
+        User user = authorizationContext.getUser(userEmail);
         if (user.getRole().equals(RoleEnum.ADMIN)) {
-            List<Lesson> lessons = lessonRepository.findAll();
-            List<CourseResponseDTO> courseResponseDTOS = lessons.stream()
-                    .map(lesson -> courseMapper.mapToResponseDTO(lesson.getCourse()))
-                    .toList();
-
-            return lessonMapper.mapToResponsesDTO(lessons, courseResponseDTOS);
+            int pageSize = CursorPage.normalizeLimit(limit);
+            List<LessonCourseDTO> lessonCourses = lessonRepository.findLessonCoursesAfter(after, pageSize + 1);
+            return CursorPage.of(lessonCourses, pageSize, LessonCourseDTO::getLessonId, lessonMapper::mapToResponsesDTO);
         } else {
-            List<Lesson> lessons = lessonRepository.findAllLessonsByUserId(user.getId());
-            List<CourseResponseDTO> courseResponseDTOS = lessons.stream()
-                    .map(lesson -> courseMapper.mapToResponseDTO(lesson.getCourse()))
-                    .toList();
-
-            return lessonMapper.mapToResponsesDTO(lessons, courseResponseDTOS);
+            List<LessonCourseDTO> lessonCourses = lessonRepository.findLessonCoursesByUserId(user.getId());
+            return CursorPage.lastPage(lessonMapper.mapToResponsesDTO(lessonCourses));
         }
     }
 
     @Override
     public List<LessonResponseDTO> findAllLessonsByCourse(Long courseId, String userEmail) {
-        User user = userRepository.findUserByEmail(userEmail);
+        User user = authorizationContext.getUser(userEmail);
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new EntityNotFoundException(COURSE_NOT_FOUND));
         if (user.getRole().equals(RoleEnum.ADMIN)) {
             return findAllLessonsByCourse(course.getId());
         } else {
-            boolean isUserAssignedToCourse = enrollmentRepository.isUserAssignedToCourse(course, user);
+            boolean isUserAssignedToCourse = authorizationContext.isEnrolledIn(user, course.getId());
             if (isUserAssignedToCourse) {
                 return findAllLessonsByCourse(courseId);
             } else {
@@ -112,12 +122,8 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     public List<LessonResponseDTO> findAllLessonsByCourse(Long courseId) {
-        List<Lesson> lessons = lessonRepository.findAllByCourseId(courseId);
-        List<CourseResponseDTO> courseResponseDTOS = lessons.stream()
-                .map(lesson -> courseMapper.mapToResponseDTO(lesson.getCourse()))
-                .toList();
-
-        return lessonMapper.mapToResponsesDTO(lessons, courseResponseDTOS);
+        List<LessonCourseDTO> lessonCourses = lessonRepository.findLessonCoursesByCourseId(courseId);
+        return lessonMapper.mapToResponsesDTO(lessonCourses);
     }
 
     @Override
@@ -137,10 +143,12 @@ public class LessonServiceImpl implements LessonService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.LESSONS, key = "#id")
     public void deleteLesson(Long id) {
         try {
             Lesson lesson = lessonRepository.findById(id)
                     .orElseThrow(() -> new EntityNotFoundException(LESSON_NOT_FOUND));
+            courseGradeAggregateRepository.subtractLessonHomeworks(lesson.getId());
             lessonRepository.delete(lesson);
             log.info(LESSON_DELETED_SUCCESSFULLY);
         } catch (Exception e) {
@@ -150,6 +158,7 @@ public class LessonServiceImpl implements LessonService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.LESSONS, key = "#lesson.id")
     public LessonResponseDTO editLesson(UpdateLessonDTO lesson) {
         lessonRepository.findById(lesson.getId())
                 .orElseThrow(() -> new EntityNotFoundException(LESSON_NOT_FOUND));
@@ -0,0 +1,137 @@
+package edu.sombra.coursemanagementsystem.service.impl;
+
+import edu.sombra.coursemanagementsystem.service.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class LocalFileStorage implements FileStorage {
+    public static final String HASH_ALGORITHM = "SHA-256";
+    public static final String TEMP_DIRECTORY = "tmp";
+    public static final String DUPLICATE_CONTENT_STORED = "Content {} already stored, skipping duplicate upload";
+    public static final String INVALID_CONTENT_HASH = "Invalid content hash: ";
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int CONTENT_DEPTH = 3;
+
+    private final Path rootDirectory;
+
+    public LocalFileStorage(@Value("${application.storage.local.root-dir}") String rootDirectory) {
+        this.rootDirectory = Path.of(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(InputStream inputStream) throws IOException {
+        Path tempFile = Files.createTempFile(Files.createDirectories(rootDirectory.resolve(TEMP_DIRECTORY)), "upload", null);
+        try {
+            MessageDigest digest = createDigest();
+            try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                Files.copy(digestInputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            moveToContentPath(tempFile, contentHash);
+            return contentHash;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void moveToContentPath(Path tempFile, String contentHash) throws IOException {
+        Path target = resolve(contentHash);
+        if (Files.exists(target)) {
+            markDuplicate(target, contentHash);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            markDuplicate(target, contentHash);
+        }
+    }
+
+    private static void markDuplicate(Path target, String contentHash) throws IOException {
+        log.info(DUPLICATE_CONTENT_STORED, contentHash);
+        // Refresh the timestamp so the orphan sweep does not remove content a new upload is about to reference.
+        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+    }
+
+    @Override
+    public Resource load(String contentHash, String fileName) {
+        return new FileSystemResource(resolve(contentHash)) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        return Files.exists(resolve(contentHash));
+    }
+
+    @Override
+    public void delete(String contentHash) throws IOException {
+        Files.deleteIfExists(resolve(contentHash));
+    }
+
+    @Override
+    public List<String> findContentStoredBefore(Instant cutoff) throws IOException {
+        if (!Files.isDirectory(rootDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(rootDirectory, CONTENT_DEPTH)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> CONTENT_HASH_PATTERN.matcher(path.getFileName().toString()).matches())
+                    .filter(path -> isModifiedBefore(path, cutoff))
+                    .map(path -> path.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    private static boolean isModifiedBefore(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path resolve(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH_PATTERN.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException(INVALID_CONTENT_HASH + contentHash);
+        }
+        return rootDirectory
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package edu.sombra.coursemanagementsystem.service.impl;
 
+import edu.sombra.coursemanagementsystem.config.CacheConfig;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.CreateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.ResetPasswordDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
@@ -8,17 +10,23 @@ import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.EntityDeletionException;
+import edu.sombra.coursemanagementsystem.exception.PasswordHashingRejectedException;
+import edu.sombra.coursemanagementsystem.exception.UserAlreadyExistsException;
 import edu.sombra.coursemanagementsystem.exception.UserCreationException;
 import edu.sombra.coursemanagementsystem.exception.UserException;
 import edu.sombra.coursemanagementsystem.mapper.UserMapper;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import edu.sombra.coursemanagementsystem.service.UserService;
 import edu.sombra.coursemanagementsystem.util.BaseUtil;
+import edu.sombra.coursemanagementsystem.util.PatchUtil;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -49,11 +57,14 @@ public class UserServiceImpl implements UserService {
     public static final String USER_ROLE_IS_EMPTY = "User Role is empty!";
     public static final String ROLE_NOT_FOUND = "Role not found: ";
     public static final String FAILED_TO_RESET_PASSWORD = "Failed to reset password: ";
+    public static final String UNIQUE_USERS_EMAIL = "unique_users_email";
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper mapper;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     public UserResponseDTO findUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> {
@@ -64,6 +75,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public UserResponseDTO assignNewRole(UserDTO userDTO) {
         try {
             findUserByEmail(userDTO.getEmail());
@@ -75,6 +87,7 @@ public class UserServiceImpl implements UserService {
             userRepository.updateRoleByEmail(userDTO.getEmail(), userDTO.getRole());
 
             User user = userRepository.findUserByEmail(userDTO.getEmail());
+            tokenVersionCache.increment(user.getId());
 
             return mapper.mapToResponseDTO(user);
         } catch (Exception ex) {
@@ -100,16 +113,32 @@ public class UserServiceImpl implements UserService {
             userDTO.setPassword(passwordEncoder.encode(userDTO.getPassword()));
             User user = mapper.fromDTO(userDTO);
             userRepository.save(user);
-            return findUserByEmail(user.getEmail());
+            userRepository.flush();
+            return mapper.mapToResponseDTO(user);
+        } catch (PasswordHashingRejectedException ex) {
+            throw ex;
         } catch (Exception ex) {
+            if (isDuplicateEmail(ex)) {
+                throw new UserAlreadyExistsException(userDTO.getEmail());
+            }
             log.error(ex.getMessage());
             throw new UserCreationException(FAILED_TO_CREATE_USER, ex);
         }
     }
 
+    private static boolean isDuplicateEmail(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return UNIQUE_USERS_EMAIL.equals(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
     @Validated
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userDTO.id")
     public UserResponseDTO updateUser(UpdateUserDTO userDTO, String userEmail) {
         User loggedUser = userRepository.findUserByEmail(userEmail);
 
@@ -128,16 +157,18 @@ public class UserServiceImpl implements UserService {
             userDTO.setRole(existingUser.getRole());
         }
 
-        BeanUtils.copyProperties(userDTO, existingUser, BaseUtil.getNullPropertyNames(userDTO));
+        PatchUtil.applyPatch(userDTO, existingUser);
         userRepository.update(existingUser);
+        tokenVersionCache.increment(existingUser.getId());
         return mapper.mapToResponseDTO(existingUser);
     }
 
     private UserResponseDTO updateUserAsNonAdmin(UpdateUserDTO userDTO, User loggedUser) {
         if (loggedUser.getId().equals(userDTO.getId())) {
             userDTO.setRole(loggedUser.getRole());
-            BeanUtils.copyProperties(userDTO, loggedUser, BaseUtil.getNullPropertyNames(userDTO));
+            PatchUtil.applyPatch(userDTO, loggedUser);
             userRepository.update(loggedUser);
+            tokenVersionCache.increment(loggedUser.getId());
             return mapper.mapToResponseDTO(loggedUser);
         } else {
             throw new AccessDeniedException(USER_SHOULD_HAVE_THE_ROLE + RoleEnum.ADMIN);
@@ -145,6 +176,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public String resetPassword(ResetPasswordDTO resetPasswordDTO, String userEmail) {
         try {
             if (Objects.nonNull(findUserByEmail(resetPasswordDTO.getEmail()))) {
@@ -154,6 +186,8 @@ public class UserServiceImpl implements UserService {
                 return PASSWORD_CHANGED;
             }
             throw new EntityNotFoundException(USER_NOT_FOUND + resetPasswordDTO.getEmail());
+        } catch (PasswordHashingRejectedException ex) {
+            throw ex;
         } catch (Exception ex) {
             log.error(ex.getMessage());
             throw new UserException(FAILED_TO_RESET_PASSWORD, ex);
@@ -161,6 +195,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void deleteUser(Long id) {
         try {
             User user = userRepository.findById(id)
@@ -169,6 +204,7 @@ public class UserServiceImpl implements UserService {
                         return new EntityNotFoundException(USER_NOT_FOUND_WITH_ID + id);
                     });
             userRepository.delete(user);
+            tokenVersionCache.evict(id);
             log.info(USER_DELETED_SUCCESSFULLY);
         } catch (EntityNotFoundException ex) {
             log.error(ex.getMessage());
@@ -177,9 +213,10 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserResponseDTO> findAllUsers() {
-        List<User> users = userRepository.findAll();
-        return mapper.mapToResponsesDTO(users);
+    public CursorPage<UserResponseDTO> findAllUsers(Long after, int limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        List<User> users = userRepository.findAllAfter(after, pageSize + 1);
+        return CursorPage.of(users, pageSize, User::getId, mapper::mapToResponsesDTO);
     }
 
     @Override
@@ -0,0 +1,43 @@
+package edu.sombra.coursemanagementsystem.util;
+
+import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
+import edu.sombra.coursemanagementsystem.entity.User;
+
+import java.util.function.Consumer;
+
+public final class PatchUtil {
+
+    private PatchUtil() {
+    }
+
+    public static void applyPatch(UpdateCourseDTO patch, Course course) {
+        setIfNotNull(patch.getId(), course::setId);
+        setIfNotNull(patch.getName(), course::setName);
+        setIfNotNull(patch.getStatus(), course::setStatus);
+        setIfNotNull(patch.getStartDate(), course::setStartDate);
+    }
+
+    public static void applyPatch(UpdateUserDTO patch, User user) {
+        setIfNotNull(patch.getId(), user::setId);
+        setIfNotNull(patch.getFirstName(), user::setFirstName);
+        setIfNotNull(patch.getLastName(), user::setLastName);
+        setIfNotNull(patch.getEmail(), user::setEmail);
+        setIfNotNull(patch.getPassword(), user::setPassword);
+        setIfNotNull(patch.getRole(), user::setRole);
+    }
+
+    public static void applyPatch(CourseFeedbackDTO patch, CourseFeedback feedback) {
+        setIfNotNull(patch.getId(), feedback::setId);
+        setIfNotNull(patch.getFeedbackText(), feedback::setFeedbackText);
+    }
+
+    private static <T> void setIfNotNull(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
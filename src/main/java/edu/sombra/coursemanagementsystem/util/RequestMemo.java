@@ -0,0 +1,34 @@
+package edu.sombra.coursemanagementsystem.util;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public final class RequestMemo {
+
+    private RequestMemo() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T computeIfAbsent(String name, Object key, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+        String attributeName = RequestMemo.class.getName() + "." + name;
+        Map<Object, T> memo = (Map<Object, T>) attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(attributeName, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        T value = memo.get(key);
+        if (value == null) {
+            value = loader.get();
+            memo.put(key, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,9 @@
+DELETE FROM enrollments e
+    USING enrollments d
+WHERE e.user_id = d.user_id
+  AND e.course_id = d.course_id
+  AND e.id > d.id;
+
+DROP INDEX idx_enrollments_user_course;
+
+ALTER TABLE enrollments ADD CONSTRAINT unique_enrollments_user_course UNIQUE (user_id, course_id);
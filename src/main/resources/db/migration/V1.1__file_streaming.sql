@@ -0,0 +1,8 @@
+ALTER TABLE files ADD COLUMN file_size BIGINT;
+
+UPDATE files SET file_size = octet_length(file_data);
+
+ALTER TABLE files ALTER COLUMN file_data DROP NOT NULL;
+
+-- keep new payloads uncompressed so substring() reads only the requested TOAST chunks
+ALTER TABLE files ALTER COLUMN file_data SET STORAGE EXTERNAL;
@@ -0,0 +1,3 @@
+ALTER TABLE files ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_files_content_hash ON files (content_hash);
@@ -0,0 +1 @@
+CREATE INDEX idx_tokens_token ON tokens (token);
@@ -0,0 +1,9 @@
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE courses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE enrollments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE lessons_id_seq INCREMENT BY 50;
+ALTER SEQUENCE files_id_seq INCREMENT BY 50;
+ALTER SEQUENCE homework_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_feedback_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_course_marks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tokens_id_seq INCREMENT BY 50;
@@ -0,0 +1,16 @@
+CREATE INDEX idx_users_email ON users (email);
+
+CREATE INDEX idx_courses_start_date ON courses (start_date);
+
+CREATE INDEX idx_enrollments_user_course ON enrollments (user_id, course_id);
+CREATE INDEX idx_enrollments_course_user ON enrollments (course_id, user_id);
+
+CREATE INDEX idx_lessons_course ON lessons (course_id) INCLUDE (id, name);
+
+CREATE INDEX idx_homework_user_lesson ON homework (user_id, lesson_id) INCLUDE (id, mark, file_id);
+CREATE INDEX idx_homework_lesson ON homework (lesson_id);
+CREATE INDEX idx_homework_file_user ON homework (file_id, user_id) WHERE file_id IS NOT NULL;
+
+CREATE INDEX idx_course_feedback_course_student ON course_feedback (course_id, student_id);
+
+CREATE INDEX idx_tokens_user_valid ON tokens (user_id) WHERE expired = false OR revoked = false;
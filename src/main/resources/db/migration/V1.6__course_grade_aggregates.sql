@@ -0,0 +1,20 @@
+CREATE TABLE course_grade_aggregates
+(
+    id             BIGSERIAL PRIMARY KEY,
+    user_id        BIGINT NOT NULL,
+    course_id      BIGINT NOT NULL,
+    mark_sum       BIGINT NOT NULL DEFAULT 0,
+    graded_count   BIGINT NOT NULL DEFAULT 0,
+    ungraded_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE CASCADE,
+    CONSTRAINT unique_grade_aggregate_user_course UNIQUE (user_id, course_id)
+);
+
+INSERT INTO course_grade_aggregates (user_id, course_id, mark_sum, graded_count, ungraded_count)
+SELECT h.user_id, l.course_id, COALESCE(SUM(h.mark), 0), COUNT(h.mark), COUNT(*) - COUNT(h.mark)
+FROM homework h
+         JOIN lessons l ON l.id = h.lesson_id
+GROUP BY h.user_id, l.course_id;
+
+ALTER SEQUENCE course_grade_aggregates_id_seq INCREMENT BY 50;
@@ -0,0 +1,19 @@
+ALTER TABLE tokens ADD COLUMN token_hash BYTEA;
+ALTER TABLE tokens ADD COLUMN expires_at TIMESTAMP WITH TIME ZONE;
+
+DELETE FROM tokens WHERE token IS NULL;
+UPDATE tokens SET token_hash = sha256(convert_to(token, 'UTF8')),
+                  expires_at = CASE
+                                   WHEN revoked OR expired THEN now()
+                                   ELSE now() + ${access_token_expiration} * INTERVAL '1 millisecond'
+                               END;
+
+ALTER TABLE tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE tokens ALTER COLUMN expires_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_tokens_token;
+ALTER TABLE tokens DROP COLUMN token;
+
+CREATE UNIQUE INDEX idx_tokens_token_hash ON tokens (token_hash);
+CREATE INDEX idx_tokens_expires_at ON tokens (expires_at);
+CREATE INDEX idx_tokens_revoked ON tokens (id) WHERE revoked = true OR expired = true;
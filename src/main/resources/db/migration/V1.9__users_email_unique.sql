@@ -0,0 +1,17 @@
+DO
+$$
+    DECLARE
+        duplicate_emails TEXT;
+    BEGIN
+        SELECT string_agg(email, ', ')
+        INTO duplicate_emails
+        FROM (SELECT email FROM users GROUP BY email HAVING COUNT(*) > 1) duplicates;
+        IF duplicate_emails IS NOT NULL THEN
+            RAISE EXCEPTION 'Merge or delete users with duplicate emails before adding unique_users_email: %', duplicate_emails;
+        END IF;
+    END
+$$;
+
+DROP INDEX idx_users_email;
+
+ALTER TABLE users ADD CONSTRAINT unique_users_email UNIQUE (email);
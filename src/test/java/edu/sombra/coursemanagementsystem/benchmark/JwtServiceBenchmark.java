@@ -0,0 +1,58 @@
+package edu.sombra.coursemanagementsystem.benchmark;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtKeys;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtService;
+import edu.sombra.coursemanagementsystem.security.jwt.ParsedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeys jwtKeys = new JwtKeys("", "", "", "");
+        jwtService = new JwtService(jwtKeys, jwtKeys, 60000000L, 604800000L);
+        user = User.builder()
+                .id(1L)
+                .email("student@gmail.com")
+                .role(RoleEnum.STUDENT)
+                .build();
+        token = jwtService.generateToken(user, 0);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user, 0);
+    }
+
+    @Benchmark
+    public ParsedToken parseOnce() {
+        return jwtService.parseOnce(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.isTokenValid(jwtService.parseOnce(token), user);
+    }
+}
@@ -0,0 +1,106 @@
+package edu.sombra.coursemanagementsystem.benchmark;
+
+import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.mapper.CourseMapper;
+import edu.sombra.coursemanagementsystem.mapper.HomeworkMapper;
+import edu.sombra.coursemanagementsystem.mapper.LessonMapper;
+import edu.sombra.coursemanagementsystem.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "1000"})
+    private int size;
+
+    private CourseMapper courseMapper;
+    private UserMapper userMapper;
+    private LessonMapper lessonMapper;
+
+    private List<Course> courses;
+    private List<User> users;
+    private List<LessonCourseDTO> lessonCourses;
+
+    @Setup
+    public void setUp() {
+        courseMapper = new CourseMapper();
+        userMapper = new UserMapper();
+        lessonMapper = new LessonMapper(new HomeworkMapper());
+
+        courses = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> Course.builder()
+                        .id(id)
+                        .name("Course " + id)
+                        .status(CourseStatus.STARTED)
+                        .startDate(LocalDate.of(2023, 1, 1))
+                        .build())
+                .toList();
+        users = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> User.builder()
+                        .id(id)
+                        .firstName("First " + id)
+                        .lastName("Last " + id)
+                        .email("user" + id + "@gmail.com")
+                        .password("password")
+                        .role(RoleEnum.STUDENT)
+                        .build())
+                .toList();
+        lessonCourses = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> LessonCourseDTO.builder()
+                        .lessonId(id)
+                        .lessonName("Lesson " + id)
+                        .courseId(courses.get(0).getId())
+                        .courseName(courses.get(0).getName())
+                        .courseStatus(courses.get(0).getStatus())
+                        .courseStartDate(courses.get(0).getStartDate())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<CourseResponseDTO> courseMapToResponsesDTO() {
+        return courseMapper.mapToResponsesDTO(courses);
+    }
+
+    @Benchmark
+    public List<UserResponseDTO> userMapToResponsesDTO() {
+        return userMapper.mapToResponsesDTO(users);
+    }
+
+    @Benchmark
+    public List<UserAssignedToCourseDTO> userMapUsersToDTO() {
+        return userMapper.mapUsersToDTO(users);
+    }
+
+    @Benchmark
+    public List<LessonResponseDTO> lessonMapToResponsesDTO() {
+        return lessonMapper.mapToResponsesDTO(lessonCourses);
+    }
+}
@@ -0,0 +1,115 @@
+package edu.sombra.coursemanagementsystem.benchmark;
+
+import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.util.PatchUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.beans.PropertyDescriptor;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartialUpdateBenchmark {
+    private UpdateCourseDTO coursePatch;
+    private UpdateUserDTO userPatch;
+
+    @Setup
+    public void setUp() {
+        coursePatch = UpdateCourseDTO.builder()
+                .id(1L)
+                .name("Course A")
+                .build();
+        userPatch = UpdateUserDTO.builder()
+                .id(1L)
+                .firstName("First")
+                .email("user@gmail.com")
+                .build();
+    }
+
+    @Benchmark
+    public Course reflectiveCourseUpdate() {
+        Course existingCourse = existingCourse();
+        Course courseFromDTO = Course.builder()
+                .id(coursePatch.getId())
+                .name(coursePatch.getName())
+                .startDate(coursePatch.getStartDate())
+                .status(coursePatch.getStatus())
+                .build();
+        BeanUtils.copyProperties(courseFromDTO, existingCourse, getNullPropertyNames(courseFromDTO));
+        return existingCourse;
+    }
+
+    @Benchmark
+    public Course patchCourseUpdate() {
+        Course existingCourse = existingCourse();
+        PatchUtil.applyPatch(coursePatch, existingCourse);
+        return existingCourse;
+    }
+
+    @Benchmark
+    public User reflectiveUserUpdate() {
+        User existingUser = existingUser();
+        BeanUtils.copyProperties(userPatch, existingUser, getNullPropertyNames(userPatch));
+        return existingUser;
+    }
+
+    @Benchmark
+    public User patchUserUpdate() {
+        User existingUser = existingUser();
+        PatchUtil.applyPatch(userPatch, existingUser);
+        return existingUser;
+    }
+
+    private static Course existingCourse() {
+        return Course.builder()
+                .id(1L)
+                .name("Course")
+                .status(CourseStatus.WAIT)
+                .startDate(LocalDate.of(2023, 1, 1))
+                .build();
+    }
+
+    private static User existingUser() {
+        return User.builder()
+                .id(1L)
+                .firstName("Name")
+                .lastName("Last")
+                .email("old@gmail.com")
+                .password("password")
+                .role(RoleEnum.STUDENT)
+                .build();
+    }
+
+    private static String[] getNullPropertyNames(Object entity) {
+        final BeanWrapper src = new BeanWrapperImpl(entity);
+        PropertyDescriptor[] pds = src.getPropertyDescriptors();
+
+        return Arrays.stream(pds)
+                .map(PropertyDescriptor::getName)
+                .filter(name -> src.getPropertyValue(name) == null)
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.sombra.coursemanagementsystem.benchmark;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.exception.PasswordHashingRejectedException;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtKeys;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtService;
+import edu.sombra.coursemanagementsystem.security.jwt.ParsedToken;
+import edu.sombra.coursemanagementsystem.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHashingBenchmark {
+    private static final String PASSWORD = "password";
+    private static final int HASHING_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 4;
+
+    @Param({"direct", "bounded"})
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private JwtService jwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        passwordEncoder = "bounded".equals(encoder)
+                ? new BoundedPasswordEncoder(bCryptPasswordEncoder, HASHING_THREADS, QUEUE_CAPACITY, new SimpleMeterRegistry())
+                : bCryptPasswordEncoder;
+        encodedPassword = bCryptPasswordEncoder.encode(PASSWORD);
+        JwtKeys jwtKeys = new JwtKeys("", "", "", "");
+        jwtService = new JwtService(jwtKeys, jwtKeys, 60000000L, 604800000L);
+        token = jwtService.generateToken(User.builder().id(1L).email("student@gmail.com").role(RoleEnum.STUDENT).build(), 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            boundedPasswordEncoder.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(8)
+    public boolean login() {
+        try {
+            return passwordEncoder.matches(PASSWORD, encodedPassword);
+        } catch (PasswordHashingRejectedException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(2)
+    public ParsedToken apiRequest() {
+        return jwtService.parseOnce(token);
+    }
+}
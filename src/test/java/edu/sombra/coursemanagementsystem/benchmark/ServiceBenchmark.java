@@ -0,0 +1,122 @@
+package edu.sombra.coursemanagementsystem.benchmark;
+
+import edu.sombra.coursemanagementsystem.CourseManagementSystemApplication;
+import edu.sombra.coursemanagementsystem.dto.course.CourseDTO;
+import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
+import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import edu.sombra.coursemanagementsystem.service.CourseService;
+import edu.sombra.coursemanagementsystem.service.EnrollmentService;
+import edu.sombra.coursemanagementsystem.service.HomeworkService;
+import edu.sombra.coursemanagementsystem.service.LessonService;
+import edu.sombra.coursemanagementsystem.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final String ADMIN_EMAIL = "admin@gmail.com";
+    private static final Long STUDENT_ID = 4L;
+    private static final Long COURSE_ID = 1L;
+    private static final int PAGE_LIMIT = 100;
+    private static final String INSTRUCTOR_EMAIL = "instructor@gmail.com";
+    private static final long LESSONS_PER_COURSE = 500L;
+
+    private ConfigurableApplicationContext context;
+    private CourseService courseService;
+    private UserService userService;
+    private LessonService lessonService;
+    private HomeworkService homeworkService;
+    private EnrollmentService enrollmentService;
+    private final AtomicLong courseCounter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CourseManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.flyway.enabled=true", "spring.docker.compose.enabled=false", "logging.level.root=WARN")
+                .run();
+        courseService = context.getBean(CourseService.class);
+        userService = context.getBean(UserService.class);
+        lessonService = context.getBean(LessonService.class);
+        homeworkService = context.getBean(HomeworkService.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<CourseResponseDTO> findAllCourses() {
+        return courseService.findAllCourses(null, PAGE_LIMIT);
+    }
+
+    @Benchmark
+    public CursorPage<UserResponseDTO> findAllUsers() {
+        return userService.findAllUsers(null, PAGE_LIMIT);
+    }
+
+    @Benchmark
+    public CursorPage<LessonResponseDTO> findAllLessons() {
+        return lessonService.findAllLessons(ADMIN_EMAIL, null, PAGE_LIMIT);
+    }
+
+    @Benchmark
+    public LessonsByCourseDTO findAllLessonsByCourseAssignedToUserId() {
+        return courseService.findAllLessonsByCourseAssignedToUserId(STUDENT_ID, COURSE_ID);
+    }
+
+    @Benchmark
+    public CursorPage<GetHomeworkDTO> getAllHomeworks() {
+        return homeworkService.getAllHomeworks(ADMIN_EMAIL, null, PAGE_LIMIT);
+    }
+
+    @Benchmark
+    public List<CourseResponseDTO> findAllCoursesByUser() {
+        return enrollmentService.findAllCoursesByUser(STUDENT_ID);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public CourseResponseDTO createCourseWithLessons() {
+        return courseService.create(CourseDTO.builder()
+                .name("Benchmark course " + System.nanoTime() + "-" + courseCounter.incrementAndGet())
+                .status(CourseStatus.WAIT)
+                .startDate(LocalDate.now().plusDays(1))
+                .instructorEmail(INSTRUCTOR_EMAIL)
+                .numberOfLessons(LESSONS_PER_COURSE)
+                .build());
+    }
+}
@@ -0,0 +1,175 @@
+package edu.sombra.coursemanagementsystem.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.mapper.CourseMapper;
+import edu.sombra.coursemanagementsystem.mapper.CourseMarkMapper;
+import edu.sombra.coursemanagementsystem.mapper.LessonMapper;
+import edu.sombra.coursemanagementsystem.mapper.UserMapper;
+import edu.sombra.coursemanagementsystem.repository.CourseFeedbackRepository;
+import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
+import edu.sombra.coursemanagementsystem.repository.CourseRepository;
+import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
+import edu.sombra.coursemanagementsystem.service.CourseService;
+import edu.sombra.coursemanagementsystem.service.EnrollmentService;
+import edu.sombra.coursemanagementsystem.service.LessonService;
+import edu.sombra.coursemanagementsystem.service.UserService;
+import edu.sombra.coursemanagementsystem.service.impl.CourseServiceImpl;
+import edu.sombra.coursemanagementsystem.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, CourseServiceImpl.class, UserServiceImpl.class})
+@TestPropertySource(properties = {
+        "spring.cache.cache-names=courses,coursesByName,lessons,users",
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats"
+})
+class CacheConfigTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private CourseRepository courseRepository;
+
+    @MockBean
+    private CourseFeedbackRepository courseFeedbackRepository;
+
+    @MockBean
+    private CourseMarkRepository courseMarkRepository;
+
+    @MockBean
+    private EnrollmentService enrollmentService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private HomeworkRepository homeworkRepository;
+
+    @MockBean
+    private LessonService lessonService;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    @MockBean
+    private CourseMapper courseMapper;
+
+    @MockBean
+    private CourseMarkMapper courseMarkMapper;
+
+    @MockBean
+    private LessonMapper lessonMapper;
+
+    @MockBean
+    private AuthorizationContext authorizationContext;
+
+    @MockBean
+    private EnrollmentCache enrollmentCache;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private TokenVersionCache tokenVersionCache;
+
+    private final Course course = Course.builder().id(1L).name("Java").build();
+
+    private final CourseResponseDTO courseResponse = CourseResponseDTO.builder().courseId(1L).courseName("Java").build();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void testCourseIsLoadedOnceUntilItIsUpdated() {
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.update(course)).thenReturn(course);
+        when(courseMapper.mapToResponseDTO(course)).thenReturn(courseResponse);
+
+        assertSame(courseResponse, courseService.findById(1L));
+        assertSame(courseResponse, courseService.findById(1L));
+        verify(courseRepository, times(1)).findById(1L);
+
+        courseService.update(UpdateCourseDTO.builder().id(1L).name("Java").build());
+        courseService.findById(1L);
+
+        verify(courseRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void testCourseByNameIsEvictedWhenCourseIsStopped() {
+        when(courseRepository.findByName("Java")).thenReturn(Optional.of(course));
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseMapper.mapToResponseDTO(course)).thenReturn(courseResponse);
+
+        courseService.findByName("Java");
+        courseService.findByName("Java");
+        courseService.startOrStopCourse(1L, "stop");
+        courseService.findByName("Java");
+
+        verify(courseRepository, times(2)).findByName("Java");
+    }
+
+    @Test
+    void testUserIsEvictedWhenDeleted() {
+        User user = User.builder().id(2L).email("user@gmail.com").build();
+        UserResponseDTO userResponse = UserResponseDTO.builder().id(2L).email("user@gmail.com").build();
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(userMapper.mapToResponseDTO(user)).thenReturn(userResponse);
+
+        assertSame(userResponse, userService.findUserById(2L));
+        assertSame(userResponse, userService.findUserById(2L));
+        userService.deleteUser(2L);
+        userService.findUserById(2L);
+
+        verify(userRepository, times(3)).findById(2L);
+    }
+
+    @Test
+    void testHitsAndMissesAreRecorded() {
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseMapper.mapToResponseDTO(course)).thenReturn(courseResponse);
+
+        TransactionAwareCacheDecorator cache = (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.COURSES);
+        CaffeineCache courses = (CaffeineCache) cache.getTargetCache();
+        CacheStats before = courses.getNativeCache().stats();
+
+        courseService.findById(1L);
+        courseService.findById(1L);
+        courseService.findById(1L);
+
+        CacheStats stats = courses.getNativeCache().stats().minus(before);
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+}
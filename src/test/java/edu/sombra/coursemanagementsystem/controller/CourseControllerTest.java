@@ -8,6 +8,7 @@ import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.enums.CourseStatus;
@@ -154,7 +155,7 @@ class CourseControllerTest {
         );
 
         when(courseMapper.mapToResponsesDTO(courses)).thenReturn(courseResponseList);
-        when(courseService.findAllCourses()).thenReturn(courseResponseList);
+        when(courseService.findAllCourses(null, 100)).thenReturn(CursorPage.lastPage(courseResponseList));
 
         ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/course/find-all")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -166,7 +167,7 @@ class CourseControllerTest {
                 .andExpect(jsonPath("$[0].status").exists())
                 .andExpect(jsonPath("$[1].startDate").exists());
 
-        verify(courseService, times(1)).findAllCourses();
+        verify(courseService, times(1)).findAllCourses(null, 100);
     }
 
     @Test
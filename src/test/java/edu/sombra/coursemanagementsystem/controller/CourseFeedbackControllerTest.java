@@ -1,8 +1,10 @@
 package edu.sombra.coursemanagementsystem.controller;
 
+import java.util.List;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.service.CourseFeedbackService;
 import org.junit.jupiter.api.Test;
@@ -92,6 +94,8 @@ class CourseFeedbackControllerTest {
     @Test
     @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
     void testGetAllFeedbacksAPI() throws Exception {
+        when(courseFeedbackService.findAll(null, 100)).thenReturn(CursorPage.lastPage(List.of()));
+
         ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/feedback"));
 
         result.andExpect(status().isOk())
@@ -2,6 +2,8 @@ package edu.sombra.coursemanagementsystem.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentApplyForCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetByNameDTO;
@@ -95,6 +97,44 @@ class EnrollmentControllerTest {
         verify(enrollmentService, times(1)).applyForCourse(enrollmentDTO, "admin@gmail.com");
     }
 
+    @Test
+    @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
+    void testBulkEnrollSuccess() throws Exception {
+        BulkEnrollmentDTO bulkEnrollmentDTO = BulkEnrollmentDTO.builder()
+                .courseName("test course")
+                .userIds(List.of(4L, 5L))
+                .build();
+
+        BulkEnrollmentResponseDTO responseDTO = BulkEnrollmentResponseDTO.builder()
+                .courseId(1L)
+                .courseName(bulkEnrollmentDTO.getCourseName())
+                .enrolledUserIds(List.of(4L))
+                .skippedUserIds(List.of(5L))
+                .build();
+
+        when(enrollmentService.bulkEnroll(bulkEnrollmentDTO)).thenReturn(responseDTO);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/enrollment/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkEnrollmentDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolledUserIds[0]").value(4))
+                .andExpect(jsonPath("$.skippedUserIds[0]").value(5));
+
+        verify(enrollmentService, times(1)).bulkEnroll(bulkEnrollmentDTO);
+    }
+
+    @Test
+    @WithMockUser(username = "student@gmail.com", roles = "STUDENT")
+    void testBulkEnrollForbiddenForStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/enrollment/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BulkEnrollmentDTO.builder().build())))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(enrollmentService);
+    }
+
     @Test
     @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
     void testGetEnrollmentByIdSuccess() throws Exception {
@@ -79,10 +79,10 @@ class FileControllerTest {
         String fileName = "file2.txt";
         File file = File.builder()
                 .id(2L)
-                .fileData("gegegegege".getBytes())
+                .fileSize(10L)
                 .fileName(fileName)
                 .build();
-        Resource mockFileResource = new ByteArrayResource(file.getFileData()) {
+        Resource mockFileResource = new ByteArrayResource("file2 data".getBytes()) {
             @Override
             public String getFilename() {
                 return file.getFileName();
@@ -4,7 +4,10 @@ package edu.sombra.coursemanagementsystem.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
 import edu.sombra.coursemanagementsystem.dto.homework.HomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkMarkDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
+import edu.sombra.coursemanagementsystem.service.ExportService;
 import edu.sombra.coursemanagementsystem.service.HomeworkService;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
@@ -12,18 +15,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @RunWith(SpringRunner.class)
@@ -40,6 +48,9 @@ class HomeworkControllerTest {
     @MockBean
     private HomeworkService homeworkService;
 
+    @MockBean
+    private ExportService exportService;
+
     @Test
     @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
     void testSetMarkSuccess() throws Exception {
@@ -70,6 +81,42 @@ class HomeworkControllerTest {
         verify(homeworkService, times(1)).setMark(homeworkDTO.getUserId(), homeworkDTO.getHomeworkId(), homeworkDTO.getMark());
     }
 
+    @Test
+    @WithMockUser(username = "instructor@gmail.com", roles = "INSTRUCTOR")
+    void testSetMarksSuccess() throws Exception {
+        List<HomeworkMarkDTO> marks = List.of(
+                HomeworkMarkDTO.builder().homeworkId(1L).mark(90L).build(),
+                HomeworkMarkDTO.builder().homeworkId(2L).mark(75L).build());
+        List<GetHomeworkDTO> homeworks = List.of(
+                GetHomeworkDTO.builder().id(1L).mark(90L).build(),
+                GetHomeworkDTO.builder().id(2L).mark(75L).build());
+
+        when(homeworkService.setMarks(marks, "instructor@gmail.com")).thenReturn(homeworks);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/homework/marks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(marks)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].mark").value(90))
+                .andExpect(jsonPath("$[1].mark").value(75));
+
+        verify(homeworkService, times(1)).setMarks(marks, "instructor@gmail.com");
+    }
+
+    @Test
+    @WithMockUser(username = "student@gmail.com", roles = "STUDENT")
+    void testSetMarksForbiddenForStudent() throws Exception {
+        List<HomeworkMarkDTO> marks = List.of(HomeworkMarkDTO.builder().homeworkId(1L).mark(90L).build());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/homework/marks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(marks)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(homeworkService);
+    }
+
     @Test
     @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
     void testGetHomeworkByIdSuccess() throws Exception {
@@ -118,7 +165,7 @@ class HomeworkControllerTest {
         homeworkList.add(homework1);
         homeworkList.add(homework2);
 
-        when(homeworkService.getAllHomeworks("admin@gmail.com")).thenReturn(homeworkList);
+        when(homeworkService.getAllHomeworks("admin@gmail.com", null, 100)).thenReturn(CursorPage.lastPage(homeworkList));
 
         ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/homework")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -138,7 +185,7 @@ class HomeworkControllerTest {
                 .andExpect(jsonPath("$[1].lesson").exists())
                 .andExpect(jsonPath("$[1].fileName").value("homework2.txt"));
 
-        verify(homeworkService, times(1)).getAllHomeworks("admin@gmail.com");
+        verify(homeworkService, times(1)).getAllHomeworks("admin@gmail.com", null, 100);
     }
 
     @Test
@@ -183,4 +230,34 @@ class HomeworkControllerTest {
 
         verify(homeworkService, times(1)).deleteHomework(homeworkId);
     }
+
+    @Test
+    @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
+    void testExportHomeworksStreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportHomeworks(any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/homework/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"homeworks.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+
+        verify(exportService, times(1)).exportHomeworks(any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser(username = "student@gmail.com", roles = "STUDENT")
+    void testExportHomeworksForbiddenForStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/homework/export"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(exportService);
+    }
 }
@@ -5,6 +5,7 @@ import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.CreateLessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.UpdateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.mapper.LessonMapper;
 import edu.sombra.coursemanagementsystem.service.LessonService;
@@ -126,7 +127,7 @@ class LessonControllerTest {
                         .build()
         );
 
-        when(lessonService.findAllLessons("admin@gmail.com")).thenReturn(lessons);
+        when(lessonService.findAllLessons("admin@gmail.com", null, 100)).thenReturn(CursorPage.lastPage(lessons));
 
         ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/lesson/find-all")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -138,7 +139,7 @@ class LessonControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].name").value("Introduction to Scala"));
 
-        verify(lessonService, times(1)).findAllLessons("admin@gmail.com");
+        verify(lessonService, times(1)).findAllLessons("admin@gmail.com", null, 100);
     }
 
     @Test
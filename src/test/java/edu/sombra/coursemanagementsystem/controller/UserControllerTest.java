@@ -1,6 +1,7 @@
 package edu.sombra.coursemanagementsystem.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.CreateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.ResetPasswordDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
@@ -180,13 +181,29 @@ class UserControllerTest {
     void testFindAllUsersSuccess() throws Exception {
         UserResponseDTO userResponseDTO = UserResponseDTO.builder().id(1L).role(RoleEnum.STUDENT).build();
 
-        when(userService.findAllUsers()).thenReturn(Collections.singletonList(userResponseDTO));
+        when(userService.findAllUsers(null, 100)).thenReturn(CursorPage.lastPage(Collections.singletonList(userResponseDTO)));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/user/find-all"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$[0].id").value(1));
     }
 
+    @Test
+    @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
+    void testFindAllUsersWithCursor() throws Exception {
+        UserResponseDTO userResponseDTO = UserResponseDTO.builder().id(11L).role(RoleEnum.STUDENT).build();
+
+        when(userService.findAllUsers(10L, 1)).thenReturn(new CursorPage<>(Collections.singletonList(userResponseDTO), 11L));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/user/find-all")
+                        .param("after", "10")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "11"))
+                .andExpect(jsonPath("$[0].id").value(11));
+    }
+
     @Test
     @WithMockUser(username = "admin@gmail.com", roles = "ADMIN")
     void testDeleteUser() throws Exception {
@@ -3,6 +3,8 @@ package edu.sombra.coursemanagementsystem.controller.auth;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.sombra.coursemanagementsystem.dto.auth.AuthenticationDTO;
 import edu.sombra.coursemanagementsystem.dto.auth.RegisterDTO;
+import edu.sombra.coursemanagementsystem.exception.PasswordHashingRejectedException;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtKeys;
 import edu.sombra.coursemanagementsystem.service.auth.AuthenticateService;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
@@ -17,6 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(SpringRunner.class)
@@ -33,6 +38,9 @@ class AuthenticationControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtKeys jwtKeys;
+
     @Test
     void authenticate_ValidRequest_ReturnsOk() throws Exception {
         AuthenticationDTO authenticationDTO = new AuthenticationDTO("username", "password");
@@ -44,6 +52,18 @@ class AuthenticationControllerTest {
         verify(authenticateService).authenticate(authenticationDTO);
     }
 
+    @Test
+    void authenticate_PasswordHashingSaturated_ReturnsServiceUnavailable() throws Exception {
+        AuthenticationDTO authenticationDTO = new AuthenticationDTO("username", "password");
+        when(authenticateService.authenticate(authenticationDTO)).thenThrow(new PasswordHashingRejectedException());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authenticationDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     void registerUser_ValidRequest_ReturnsOk() throws Exception {
         RegisterDTO registerDTO = new RegisterDTO("firstName", "lastName", "email", "password");
@@ -60,4 +80,16 @@ class AuthenticationControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/auth/refresh-token"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void jwks_ReturnsPublicSigningKeys() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/auth/jwks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value(jwtKeys.getSigningKid()))
+                .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+                .andExpect(jsonPath("$.keys[0].crv").value("P-256"))
+                .andExpect(jsonPath("$.keys[0].alg").value("ES256"))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+    }
 }
@@ -127,6 +127,9 @@ class ScenarioAdminE2ETest {
         //Set mark
         setMarkForHomework(foundStudentResponse, adminJwtToken, homework1DTO, 85L);
 
+        //export homeworks
+        exportHomeworks(homework1DTO);
+
         //set feedback
         addFeedbackForCourse(createdCourse, foundStudentResponse);
 
@@ -152,6 +155,20 @@ class ScenarioAdminE2ETest {
         assertNull(logout.getBody());
     }
 
+    private void exportHomeworks(GetHomeworkDTO gradedHomework) {
+        ResponseEntity<String> exportResponse = restTemplate.exchange(
+                buildUrl("/api/v1/homework/export"),
+                HttpMethod.GET,
+                new HttpEntity<>(adminHeaders),
+                String.class
+        );
+        assertEquals(HttpStatus.OK, exportResponse.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(exportResponse.getHeaders().getContentType()));
+        assertNotNull(exportResponse.getBody());
+        assertTrue(exportResponse.getBody().lines()
+                .anyMatch(line -> line.contains("\"id\":" + gradedHomework.getId() + ",\"mark\":85")));
+    }
+
     private List<UserResponseDTO> findAllUsers() {
         ResponseEntity<List<UserResponseDTO>> listUsersResponseEntity = restTemplate.exchange(
                 buildUrl("/api/v1/user/find-all"),
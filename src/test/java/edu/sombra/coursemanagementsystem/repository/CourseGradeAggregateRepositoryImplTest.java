@@ -0,0 +1,83 @@
+package edu.sombra.coursemanagementsystem.repository;
+
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.CourseGradeAggregate;
+import edu.sombra.coursemanagementsystem.entity.Lesson;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = Repository.class))
+class CourseGradeAggregateRepositoryImplTest {
+
+    @Autowired
+    private CourseGradeAggregateRepository courseGradeAggregateRepository;
+
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Test
+    void testAggregateFollowsFanOutGradingAndLessonRemoval() {
+        User user = userRepository.save(User.builder()
+                .firstName("grade")
+                .lastName("student")
+                .password("123")
+                .email("grade.student@example.com")
+                .role(RoleEnum.STUDENT)
+                .build());
+        Course course = courseRepository.save(Course.builder()
+                .name("Aggregated course")
+                .status(CourseStatus.WAIT)
+                .startDate(LocalDate.now())
+                .build());
+        Lesson first = lessonRepository.save(Lesson.builder().name("first").course(course).build());
+        Lesson second = lessonRepository.save(Lesson.builder().name("second").course(course).build());
+
+        assertEquals(2, homeworkRepository.assignUsersToCourseLessons(List.of(user.getId()), course.getId()));
+
+        CourseGradeAggregate aggregate = courseGradeAggregateRepository.applyDelta(user.getId(), course.getId(), 0, 0, 0);
+        assertEquals(0L, aggregate.getMarkSum());
+        assertEquals(2L, aggregate.getUngradedCount());
+        assertNull(aggregate.getAverageMark());
+
+        Long homeworkId = homeworkRepository.findByUserAndLessonId(user.getId(), first.getId()).orElseThrow().getId();
+        MarkChangeDTO markChange = homeworkRepository.setMark(homeworkId, 80L).orElseThrow();
+        aggregate = courseGradeAggregateRepository.applyDelta(user.getId(), course.getId(),
+                markChange.getMarkSumDelta(), markChange.getGradedCountDelta(), -markChange.getGradedCountDelta());
+        assertEquals(80.0, aggregate.getAverageMark());
+        assertFalse(aggregate.isAllHomeworksGraded());
+
+        markChange = homeworkRepository.setMark(homeworkId, 60L).orElseThrow();
+        aggregate = courseGradeAggregateRepository.applyDelta(user.getId(), course.getId(),
+                markChange.getMarkSumDelta(), markChange.getGradedCountDelta(), -markChange.getGradedCountDelta());
+        assertEquals(60L, aggregate.getMarkSum());
+        assertEquals(1L, aggregate.getGradedCount());
+        assertEquals(1L, aggregate.getUngradedCount());
+
+        assertEquals(1, courseGradeAggregateRepository.subtractLessonHomeworks(second.getId()));
+        aggregate = courseGradeAggregateRepository.applyDelta(user.getId(), course.getId(), 0, 0, 0);
+        assertEquals(60.0, aggregate.getAverageMark());
+        assertTrue(aggregate.isAllHomeworksGraded());
+    }
+}
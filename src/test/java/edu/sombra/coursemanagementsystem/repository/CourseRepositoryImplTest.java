@@ -8,6 +8,7 @@ import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.CourseStatus;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.repository.impl.CourseRepositoryImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -19,8 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = Repository.class))
@@ -41,6 +44,9 @@ class CourseRepositoryImplTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @Transactional
     void testFindByName() {
@@ -102,7 +108,7 @@ class CourseRepositoryImplTest {
                 .lastName("test")
                 .firstName("user")
                 .password("123")
-                .email("user1@example.com")
+                .email("student1@example.com")
                 .role(RoleEnum.STUDENT)
                 .build());
 
@@ -110,7 +116,7 @@ class CourseRepositoryImplTest {
                 .lastName("test")
                 .firstName("user")
                 .password("123")
-                .email("user2@example.com")
+                .email("student2@example.com")
                 .role(RoleEnum.STUDENT)
                 .build());
 
@@ -178,6 +184,7 @@ class CourseRepositoryImplTest {
         boolean isUserAssigned = courseRepository.isUserAssignedToCourse(user.getId(), course.getId());
 
         assertTrue(isUserAssigned, "User should be assigned to the course");
+        assertFalse(courseRepository.isUserAssignedToCourse(-1L, course.getId()), "Unknown user should not be assigned");
     }
 
     @Test
@@ -344,4 +351,31 @@ class CourseRepositoryImplTest {
         assertEquals(1, coursesStartingAfterToday.size(), "Number of courses starting after today should match");
         assertEquals("Course2", coursesStartingAfterToday.get(0).getName(), "Course name should match");
     }
+
+    @Test
+    @Transactional
+    void testSaveAllKeepsManagedCoursesAttached() {
+        LocalDate startDate = LocalDate.now().plusYears(1);
+        List<Course> courses = IntStream.rangeClosed(1, 60)
+                .mapToObj(i -> Course.builder()
+                        .name("Scheduled course " + i)
+                        .startDate(startDate)
+                        .status(CourseStatus.WAIT)
+                        .build())
+                .toList();
+        courseRepository.saveAll(courses);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Course> coursesToStart = courseRepository.findByStartDate(startDate);
+        coursesToStart.forEach(course -> course.setStatus(CourseStatus.STARTED));
+        courseRepository.saveAll(coursesToStart);
+        entityManager.flush();
+
+        assertEquals(60, coursesToStart.size());
+        assertTrue(coursesToStart.stream().allMatch(entityManager::contains));
+        entityManager.clear();
+        assertTrue(courseRepository.findByStartDate(startDate).stream()
+                .allMatch(course -> course.getStatus() == CourseStatus.STARTED));
+    }
 }
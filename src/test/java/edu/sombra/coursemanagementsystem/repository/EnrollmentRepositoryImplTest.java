@@ -2,6 +2,8 @@ package edu.sombra.coursemanagementsystem.repository;
 
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Enrollment;
+import edu.sombra.coursemanagementsystem.entity.Homework;
+import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.CourseStatus;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +34,12 @@ class EnrollmentRepositoryImplTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+
     @Test
     void testIsUserAssignedToCourse() {
         User user = User.builder()
@@ -66,6 +76,42 @@ class EnrollmentRepositoryImplTest {
         assertTrue(isAssigned);
     }
 
+    @Test
+    void testIsUserAssignedToHomeworkCourse() {
+        User user = userRepository.save(User.builder()
+                .lastName("test")
+                .firstName("user")
+                .password("123")
+                .email("user@example.com")
+                .role(RoleEnum.STUDENT)
+                .build());
+        Course course = courseRepository.save(Course.builder()
+                .name("Homework Course")
+                .status(CourseStatus.STOP)
+                .startDate(LocalDate.now())
+                .build());
+        Lesson lesson = lessonRepository.save(Lesson.builder()
+                .name("lesson")
+                .course(course)
+                .build());
+        Homework homework = homeworkRepository.save(Homework.builder()
+                .lesson(lesson)
+                .user(user)
+                .build());
+
+        assertFalse(enrollmentRepository.isUserAssignedToHomeworkCourse(user.getId(), homework.getId()));
+
+        enrollmentRepository.save(Enrollment.builder()
+                .user(user)
+                .course(course)
+                .build());
+
+        assertTrue(enrollmentRepository.isUserAssignedToHomeworkCourse(user.getId(), homework.getId()));
+        assertFalse(enrollmentRepository.isUserAssignedToHomeworkCourse(user.getId(), -1L));
+        assertFalse(enrollmentRepository.isUserAssignedToHomeworkCourse(null, homework.getId()));
+        assertEquals(Set.of(course.getId()), enrollmentRepository.findCourseIdsByUserId(user.getId()));
+    }
+
     @Test
     void testFindEnrollmentByCourseName() {
         User user = User.builder()
@@ -225,7 +271,7 @@ class EnrollmentRepositoryImplTest {
                 .lastName("test")
                 .firstName("user")
                 .password("123")
-                .email("instructor1@example.com")
+                .email("assigned.instructor1@example.com")
                 .role(RoleEnum.INSTRUCTOR)
                 .build();
 
@@ -233,7 +279,7 @@ class EnrollmentRepositoryImplTest {
                 .lastName("test")
                 .firstName("user")
                 .password("123")
-                .email("instructor2@example.com")
+                .email("assigned.instructor2@example.com")
                 .role(RoleEnum.INSTRUCTOR)
                 .build();
 
@@ -304,4 +350,53 @@ class EnrollmentRepositoryImplTest {
         assertEquals(user.getEmail(), foundUser.getEmail());
     }
 
+    @Test
+    void testEnrollUsersAndCountCourses() {
+        User enrolled = userRepository.save(User.builder()
+                .lastName("test")
+                .firstName("user")
+                .password("123")
+                .email("user@example.com")
+                .role(RoleEnum.STUDENT)
+                .build());
+        User newcomer = userRepository.save(User.builder()
+                .lastName("test")
+                .firstName("newcomer")
+                .password("123")
+                .email("newcomer@example.com")
+                .role(RoleEnum.STUDENT)
+                .build());
+
+        Course course = courseRepository.save(Course.builder()
+                .name("Java Programming")
+                .status(CourseStatus.STOP)
+                .startDate(LocalDate.now())
+                .build());
+
+        enrollmentRepository.save(Enrollment.builder()
+                .user(enrolled)
+                .course(course)
+                .build());
+
+        List<Long> userIds = List.of(enrolled.getId(), newcomer.getId());
+
+        assertEquals(Set.of(enrolled.getId()), enrollmentRepository.findUserIdsAssignedToCourse(course.getId(), userIds));
+        assertEquals(Map.of(enrolled.getId(), 1L), enrollmentRepository.getUserRegisteredCourseCounts(userIds));
+
+        User instructor = userRepository.save(User.builder()
+                .lastName("test")
+                .firstName("instructor")
+                .password("123")
+                .email("bulk.instructor@example.com")
+                .role(RoleEnum.INSTRUCTOR)
+                .build());
+
+        List<Long> inserted = enrollmentRepository.enrollUsers(
+                List.of(enrolled.getId(), newcomer.getId(), instructor.getId()), course.getId());
+
+        assertEquals(List.of(newcomer.getId()), inserted);
+        assertEquals(Set.of(enrolled.getId(), newcomer.getId()),
+                enrollmentRepository.findUserIdsAssignedToCourse(course.getId(), List.of(enrolled.getId(), newcomer.getId(), instructor.getId())));
+    }
+
 }
@@ -9,7 +9,10 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.stereotype.Repository;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,7 +29,7 @@ class FileRepositoryTest {
     void testSaveAndFindFileById() {
         File file = new File();
         file.setFileName("test.txt");
-        file.setFileData("testtesttest".getBytes());
+        file.setFileSize(12L);
         fileRepository.save(file);
         entityManager.flush();
 
@@ -36,6 +39,58 @@ class FileRepositoryTest {
         assertEquals("test.txt", receivedFile.getFileName());
     }
 
+    @Test
+    void testSaveAndReadFileData() {
+        byte[] data = "test content".getBytes();
+        File file = File.builder()
+                .fileName("test.txt")
+                .fileSize((long) data.length)
+                .build();
+        fileRepository.save(file);
+        entityManager.flush();
+
+        fileRepository.saveFileData(file.getId(), new ByteArrayInputStream(data), data.length);
+
+        assertArrayEquals(data, fileRepository.readFileData(file.getId(), 0, data.length));
+        assertArrayEquals("content".getBytes(), fileRepository.readFileData(file.getId(), 5, 100));
+    }
+
+    @Test
+    void testMoveFileDataOutOfDatabase() {
+        byte[] data = "legacy content".getBytes();
+        File file = File.builder()
+                .fileName("legacy.txt")
+                .fileSize((long) data.length)
+                .build();
+        fileRepository.save(file);
+        entityManager.flush();
+        fileRepository.saveFileData(file.getId(), new ByteArrayInputStream(data), data.length);
+
+        assertTrue(fileRepository.findFilesStoredInDatabase(1000).stream()
+                .anyMatch(stored -> stored.getId().equals(file.getId())));
+
+        String contentHash = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+        fileRepository.markFileDataMoved(file.getId(), contentHash);
+
+        assertTrue(fileRepository.findFilesStoredInDatabase(1000).stream()
+                .noneMatch(stored -> stored.getId().equals(file.getId())));
+        assertEquals(Set.of(contentHash), fileRepository.findExistingContentHashes(List.of(contentHash)));
+    }
+
+    @Test
+    void testFindExistingContentHashes() {
+        String referenced = "c".repeat(64);
+        String orphaned = "d".repeat(64);
+        fileRepository.save(File.builder()
+                .fileName("stored.txt")
+                .fileSize(4L)
+                .contentHash(referenced)
+                .build());
+        entityManager.flush();
+
+        assertEquals(Set.of(referenced), fileRepository.findExistingContentHashes(List.of(referenced, orphaned)));
+    }
+
     @Test
     void testFindFileByIdWithNullId() {
         assertThrows(IllegalArgumentException.class, () -> fileRepository.findById(null));
@@ -1,5 +1,7 @@
 package edu.sombra.coursemanagementsystem.repository;
 
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Enrollment;
 import edu.sombra.coursemanagementsystem.entity.File;
@@ -8,6 +10,7 @@ import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.CourseStatus;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -19,7 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,7 +68,7 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         fileRepository.save(file);
@@ -78,7 +85,13 @@ class HomeworkRepositoryImplTest {
 
         homeworkRepository.save(homework);
 
-        homeworkRepository.setMark(homework.getId(), 90L);
+        MarkChangeDTO markChange = homeworkRepository.setMark(homework.getId(), 90L).orElse(null);
+
+        assertNotNull(markChange);
+        assertEquals(66L, markChange.getPreviousMark());
+        assertEquals(90L, markChange.getMark());
+        assertEquals(1L, markChange.getUserId());
+        assertEquals(lesson.getCourse().getId(), markChange.getCourseId());
 
         entityManager.flush();
 
@@ -90,6 +103,49 @@ class HomeworkRepositoryImplTest {
         assertEquals(90L, updatedHomework.getMark());
     }
 
+    @Test
+    @Transactional
+    void testSetMarks() {
+        Lesson lesson = lessonRepository.save(Lesson.builder()
+                .course(Course.builder()
+                        .id(1L)
+                        .build())
+                .name("lesson1")
+                .build());
+        User student = User.builder()
+                .id(1L)
+                .role(RoleEnum.STUDENT)
+                .build();
+        Homework graded = homeworkRepository.save(Homework.builder()
+                .lesson(lesson)
+                .mark(66L)
+                .user(student)
+                .build());
+        Homework ungraded = homeworkRepository.save(Homework.builder()
+                .lesson(lesson)
+                .user(student)
+                .build());
+        entityManager.flush();
+
+        Map<Long, Long> courseIds = homeworkRepository.findCourseIdsByHomeworkIds(List.of(graded.getId(), ungraded.getId(), -1L));
+        assertEquals(Map.of(graded.getId(), 1L, ungraded.getId(), 1L), courseIds);
+
+        Map<Long, MarkChangeDTO> changes = homeworkRepository.setMarks(Map.of(graded.getId(), 90L, ungraded.getId(), 40L)).stream()
+                .collect(Collectors.toMap(MarkChangeDTO::getHomeworkId, Function.identity()));
+
+        assertEquals(2, changes.size());
+        assertEquals(66L, changes.get(graded.getId()).getPreviousMark());
+        assertEquals(90L, changes.get(graded.getId()).getMark());
+        assertNull(changes.get(ungraded.getId()).getPreviousMark());
+        assertEquals(40L, changes.get(ungraded.getId()).getMark());
+        assertEquals(1L, changes.get(ungraded.getId()).getCourseId());
+
+        entityManager.clear();
+
+        List<Homework> updated = homeworkRepository.findAllByIds(List.of(graded.getId(), ungraded.getId()));
+        assertEquals(List.of(90L, 40L), updated.stream().map(Homework::getMark).toList());
+    }
+
     @Test
     @Transactional
     void testCalculateAverageHomeworksMarkByUserId() {
@@ -125,12 +181,12 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file1")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         File file2 = File.builder()
                 .fileName("file2")
-                .fileData("testfile2".getBytes())
+                .fileSize(9L)
                 .build();
 
         fileRepository.saveAll(List.of(file, file2));
@@ -181,7 +237,7 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file1")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         fileRepository.save(file);
@@ -201,9 +257,69 @@ class HomeworkRepositoryImplTest {
         assertEquals(homework, foundHomework.get());
     }
 
+    @Test
+    void testFindAllByUserAndCourseId() {
+        User user = User.builder()
+                .lastName("test")
+                .firstName("user")
+                .password("123")
+                .email("user@example.com")
+                .role(RoleEnum.STUDENT)
+                .build();
+
+        userRepository.save(user);
+
+        Course course = Course.builder()
+                .name("Java Programming")
+                .status(CourseStatus.STOP)
+                .startDate(LocalDate.now())
+                .build();
+
+        courseRepository.save(course);
+
+        Lesson lesson1 = Lesson.builder()
+                .course(course)
+                .name("lesson1")
+                .build();
+
+        Lesson lesson2 = Lesson.builder()
+                .course(course)
+                .name("lesson2")
+                .build();
+
+        lessonRepository.saveAll(List.of(lesson1, lesson2));
+
+        File file = File.builder()
+                .fileName("file1")
+                .fileSize(8L)
+                .build();
+
+        fileRepository.save(file);
+
+        Homework homework1 = Homework.builder()
+                .lesson(lesson1)
+                .mark(89L)
+                .file(file)
+                .user(user)
+                .build();
+
+        Homework homework2 = Homework.builder()
+                .lesson(lesson2)
+                .user(user)
+                .build();
+
+        homeworkRepository.saveAll(List.of(homework1, homework2));
+
+        Map<Long, Homework> homeworksByLessonId = homeworkRepository.findAllByUserAndCourseId(user.getId(), course.getId());
+
+        assertEquals(2, homeworksByLessonId.size());
+        assertEquals(homework1, homeworksByLessonId.get(lesson1.getId()));
+        assertEquals(homework2, homeworksByLessonId.get(lesson2.getId()));
+    }
+
     @Test
     @Transactional
-    void testAssignUserForLesson() {
+    void testAssignUsersToCourseLessons() {
         User user = User.builder()
                 .lastName("test")
                 .firstName("user")
@@ -212,22 +328,27 @@ class HomeworkRepositoryImplTest {
                 .role(RoleEnum.STUDENT)
                 .build();
 
+        Course course = courseRepository.save(Course.builder()
+                .name("Bulk Course")
+                .status(CourseStatus.STOP)
+                .startDate(LocalDate.now())
+                .build());
+
         Lesson lesson = Lesson.builder()
-                .course(Course.builder()
-                        .id(1L)
-                        .build())
+                .course(course)
                 .name("lesson1")
                 .build();
 
         userRepository.save(user);
         lessonRepository.save(lesson);
 
-        homeworkRepository.assignUserForLesson(user.getId(), lesson.getId());
+        int assigned = homeworkRepository.assignUsersToCourseLessons(List.of(user.getId()), course.getId());
 
         entityManager.flush();
 
         Homework assignedHomework = homeworkRepository.findByUserAndLessonId(user.getId(), lesson.getId()).orElse(null);
 
+        assertEquals(1, assigned);
         assertNotNull(assignedHomework);
     }
 
@@ -265,12 +386,12 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file1")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         File file2 = File.builder()
                 .fileName("file2")
-                .fileData("testfile2".getBytes())
+                .fileSize(9L)
                 .build();
 
         fileRepository.saveAll(List.of(file, file2));
@@ -321,7 +442,7 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file1")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         fileRepository.save(file);
@@ -378,12 +499,12 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file1")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         File file2 = File.builder()
                 .fileName("file2")
-                .fileData("testfile2".getBytes())
+                .fileSize(9L)
                 .build();
 
         fileRepository.saveAll(List.of(file, file2));
@@ -456,7 +577,7 @@ class HomeworkRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("testfile")
-                .fileData("testdata".getBytes())
+                .fileSize(8L)
                 .build();
 
         fileRepository.save(file);
@@ -476,4 +597,81 @@ class HomeworkRepositoryImplTest {
         assertEquals(1, homeworkList.size());
         assertEquals(homework, homeworkList.get(0));
     }
+
+    @Test
+    void testStreamAllForExportProjectsHomeworkWithoutFileData() {
+        Lesson lesson = lessonRepository.save(Lesson.builder()
+                .course(Course.builder()
+                        .id(1L)
+                        .build())
+                .name("export lesson")
+                .build());
+        File file = fileRepository.save(File.builder()
+                .fileName("export.txt")
+                .fileSize(8L)
+                .build());
+        Homework homework = homeworkRepository.save(Homework.builder()
+                .lesson(lesson)
+                .mark(90L)
+                .file(file)
+                .user(User.builder()
+                        .id(1L)
+                        .build())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<HomeworkExportDTO> exported;
+        try (Stream<HomeworkExportDTO> stream = homeworkRepository.streamAllForExport(10)) {
+            exported = stream.toList();
+        }
+
+        HomeworkExportDTO dto = exported.stream()
+                .filter(row -> row.getId().equals(homework.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(90L, dto.getMark());
+        assertEquals(1L, dto.getUserId());
+        assertEquals(lesson.getId(), dto.getLessonId());
+        assertEquals("export lesson", dto.getLessonName());
+        assertEquals(1L, dto.getCourseId());
+        assertEquals(file.getId(), dto.getFileId());
+        assertEquals("export.txt", dto.getFileName());
+        assertTrue(exported.stream().map(HomeworkExportDTO::getId).toList()
+                .equals(exported.stream().map(HomeworkExportDTO::getId).sorted().toList()));
+    }
+
+    @Test
+    void testFindByIdLoadsDetailsGraphWhileAssociationsStayLazy() {
+        Lesson lesson = lessonRepository.save(Lesson.builder()
+                .course(Course.builder()
+                        .id(1L)
+                        .build())
+                .name("graph lesson")
+                .build());
+        File file = fileRepository.save(File.builder()
+                .fileName("graph.txt")
+                .fileSize(8L)
+                .build());
+        Homework homework = homeworkRepository.save(Homework.builder()
+                .lesson(lesson)
+                .file(file)
+                .user(User.builder()
+                        .id(1L)
+                        .build())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Homework plain = entityManager.find(Homework.class, homework.getId());
+        assertFalse(Hibernate.isInitialized(plain.getLesson()));
+        assertFalse(Hibernate.isInitialized(plain.getUser()));
+        entityManager.clear();
+
+        Homework withDetails = homeworkRepository.findById(homework.getId()).orElseThrow();
+        assertTrue(Hibernate.isInitialized(withDetails.getUser()));
+        assertTrue(Hibernate.isInitialized(withDetails.getFile()));
+        assertTrue(Hibernate.isInitialized(withDetails.getLesson()));
+        assertTrue(Hibernate.isInitialized(withDetails.getLesson().getCourse()));
+    }
 }
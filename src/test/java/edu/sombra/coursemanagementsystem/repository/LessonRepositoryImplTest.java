@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.repository;
 
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.Enrollment;
 import edu.sombra.coursemanagementsystem.entity.File;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -35,6 +38,12 @@ class LessonRepositoryImplTest {
 
     @Autowired
     private FileRepository fileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
     @Test
     void testFindAllByCourseId() {
         Course course = Course.builder()
@@ -60,6 +69,36 @@ class LessonRepositoryImplTest {
         assertEquals(2, lessons.size());
     }
 
+    @Test
+    void testFindLessonCoursesInlinesCourseColumns() {
+        Course course = courseRepository.save(Course.builder()
+                .name("projected course")
+                .startDate(LocalDate.of(2030, 1, 1))
+                .status(CourseStatus.WAIT)
+                .build());
+        Lesson first = lessonRepository.save(Lesson.builder().name("first").course(course).build());
+        Lesson second = lessonRepository.save(Lesson.builder().name("second").course(course).build());
+        User student = userRepository.save(User.builder()
+                .firstName("projected")
+                .lastName("student")
+                .email("projected.student@example.com")
+                .password("123")
+                .role(RoleEnum.STUDENT)
+                .build());
+        enrollmentRepository.save(Enrollment.builder().user(student).course(course).build());
+
+        List<LessonCourseDTO> byCourse = lessonRepository.findLessonCoursesByCourseId(course.getId());
+        List<LessonCourseDTO> byUser = lessonRepository.findLessonCoursesByUserId(student.getId());
+        List<LessonCourseDTO> page = lessonRepository.findLessonCoursesAfter(first.getId(), 1);
+
+        assertEquals(List.of(first.getId(), second.getId()), byCourse.stream().map(LessonCourseDTO::getLessonId).toList());
+        assertEquals(byCourse, byUser);
+        assertEquals("projected course", byCourse.get(0).getCourseName());
+        assertEquals(CourseStatus.WAIT, byCourse.get(0).getCourseStatus());
+        assertEquals(LocalDate.of(2030, 1, 1), byCourse.get(0).getCourseStartDate());
+        assertEquals(List.of(second.getId()), page.stream().map(LessonCourseDTO::getLessonId).toList());
+    }
+
     @Test
     void testFindLessonByHomeworkId() {
         Lesson lesson = Lesson.builder()
@@ -73,7 +112,7 @@ class LessonRepositoryImplTest {
 
         File file = File.builder()
                 .fileName("file")
-                .fileData("testfile".getBytes())
+                .fileSize(8L)
                 .build();
 
         fileRepository.save(file);
@@ -96,4 +135,24 @@ class LessonRepositoryImplTest {
         assertEquals(lesson, foundLesson.get());
     }
 
+    @Test
+    void testSaveAllPersistsLessonsAcrossBatches() {
+        Course course = courseRepository.save(Course.builder()
+                .name("batched course")
+                .startDate(LocalDate.now())
+                .status(CourseStatus.WAIT)
+                .build());
+        List<Lesson> lessons = LongStream.rangeClosed(1, 120)
+                .mapToObj(i -> Lesson.builder()
+                        .name("Lesson " + i)
+                        .course(course)
+                        .build())
+                .toList();
+
+        List<Lesson> saved = lessonRepository.saveAll(lessons);
+
+        assertTrue(saved.stream().allMatch(lesson -> lesson.getId() != null));
+        assertEquals(120, saved.stream().map(Lesson::getId).distinct().count());
+        assertEquals(120, lessonRepository.findAllByCourseId(course.getId()).size());
+    }
 }
@@ -0,0 +1,198 @@
+package edu.sombra.coursemanagementsystem.repository;
+
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = Repository.class))
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "edu.sombra.coursemanagementsystem.repository.QueryPlanTest$SqlCapture")
+@DirtiesContext
+class QueryPlanTest {
+    private static final Long STUDENT_ID = 4L;
+    private static final Long INSTRUCTOR_ID = 3L;
+    private static final Long COURSE_ID = 1L;
+    private static final Long LESSON_ID = 1L;
+    private static final Long HOMEWORK_ID = 1L;
+    private static final Long FILE_ID = 1L;
+    private static final Long ENROLLMENT_ID = 1L;
+    private static final String STUDENT_EMAIL = "student@gmail.com";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private HomeworkRepository homeworkRepository;
+
+    @Autowired
+    private CourseFeedbackRepository courseFeedbackRepository;
+
+    @Autowired
+    private CourseMarkRepository courseMarkRepository;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    private static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                query("UserRepository.findUserByEmail", t -> t.userRepository.findUserByEmail(STUDENT_EMAIL)),
+                query("UserRepository.existsUserByEmail", t -> t.userRepository.existsUserByEmail(STUDENT_EMAIL)),
+                query("UserRepository.findTokenVersion", t -> t.userRepository.findTokenVersion(STUDENT_ID)),
+                query("UserRepository.findUsersByEmails", t -> t.userRepository.findUsersByEmails(List.of(STUDENT_EMAIL, "admin@gmail.com"))),
+                query("CourseRepository.findByName", t -> t.courseRepository.findByName("Course A")),
+                query("CourseRepository.findByStartDate", t -> t.courseRepository.findByStartDate(LocalDate.now())),
+                query("CourseRepository.findUsersInCourseByRole", t -> t.courseRepository.findUsersInCourseByRole(COURSE_ID, RoleEnum.INSTRUCTOR)),
+                query("CourseRepository.findAllLessonsInCourse", t -> t.courseRepository.findAllLessonsInCourse(COURSE_ID)),
+                query("CourseRepository.findCourseByHomeworkId", t -> t.courseRepository.findCourseByHomeworkId(HOMEWORK_ID)),
+                query("CourseRepository.findCoursesByUserId", t -> t.courseRepository.findCoursesByUserId(INSTRUCTOR_ID)),
+                query("CourseRepository.findUsersInCourse", t -> t.courseRepository.findUsersInCourse(COURSE_ID)),
+                query("CourseRepository.findAllLessonsByCourseAssignedToUserId", t -> t.courseRepository.findAllLessonsByCourseAssignedToUserId(STUDENT_ID, COURSE_ID)),
+                query("CourseRepository.isUserAssignedToCourse", t -> t.courseRepository.isUserAssignedToCourse(STUDENT_ID, COURSE_ID)),
+                query("CourseRepository.findCourseByFileId", t -> t.courseRepository.findCourseByFileId(FILE_ID)),
+                query("EnrollmentRepository.isUserAssignedToHomeworkCourse", t -> t.enrollmentRepository.isUserAssignedToHomeworkCourse(STUDENT_ID, HOMEWORK_ID)),
+                query("EnrollmentRepository.findCourseIdsByUserId", t -> t.enrollmentRepository.findCourseIdsByUserId(STUDENT_ID)),
+                query("EnrollmentRepository.findEnrollmentByCourseName", t -> t.enrollmentRepository.findEnrollmentByCourseName("Course A")),
+                query("EnrollmentRepository.getUserRegisteredCourseCount", t -> t.enrollmentRepository.getUserRegisteredCourseCount(STUDENT_ID)),
+                query("EnrollmentRepository.getUserRegisteredCourseCounts", t -> t.enrollmentRepository.getUserRegisteredCourseCounts(List.of(STUDENT_ID, INSTRUCTOR_ID))),
+                query("EnrollmentRepository.findUserIdsAssignedToCourse", t -> t.enrollmentRepository.findUserIdsAssignedToCourse(COURSE_ID, List.of(STUDENT_ID))),
+                query("EnrollmentRepository.findCoursesByUserId", t -> t.enrollmentRepository.findCoursesByUserId(STUDENT_ID)),
+                query("EnrollmentRepository.findCourseByEnrollmentId", t -> t.enrollmentRepository.findCourseByEnrollmentId(ENROLLMENT_ID)),
+                query("EnrollmentRepository.findAssignedInstructorsForCourse", t -> t.enrollmentRepository.findAssignedInstructorsForCourse(COURSE_ID)),
+                query("EnrollmentRepository.findUserByEnrollmentId", t -> t.enrollmentRepository.findUserByEnrollmentId(ENROLLMENT_ID)),
+                query("LessonRepository.findAllByCourseId", t -> t.lessonRepository.findAllByCourseId(COURSE_ID)),
+                query("LessonRepository.findLessonByHomeworkId", t -> t.lessonRepository.findLessonByHomeworkId(HOMEWORK_ID)),
+                query("LessonRepository.findLessonCoursesByUserId", t -> t.lessonRepository.findLessonCoursesByUserId(STUDENT_ID)),
+                query("LessonRepository.findLessonCoursesByCourseId", t -> t.lessonRepository.findLessonCoursesByCourseId(COURSE_ID)),
+                query("LessonRepository.findLessonCoursesAfter", t -> t.lessonRepository.findLessonCoursesAfter(LESSON_ID, 100)),
+                query("HomeworkRepository.calculateAverageHomeworksMarkByUserId", t -> t.homeworkRepository.calculateAverageHomeworksMarkByUserId(STUDENT_ID, COURSE_ID)),
+                query("HomeworkRepository.findCourseIdsByHomeworkIds", t -> t.homeworkRepository.findCourseIdsByHomeworkIds(List.of(HOMEWORK_ID, 2L))),
+                query("HomeworkRepository.findAllByIds", t -> t.homeworkRepository.findAllByIds(List.of(HOMEWORK_ID, 2L))),
+                query("HomeworkRepository.findByUserAndLessonId", t -> t.homeworkRepository.findByUserAndLessonId(STUDENT_ID, LESSON_ID)),
+                query("HomeworkRepository.findAllByUserAndCourseId", t -> t.homeworkRepository.findAllByUserAndCourseId(STUDENT_ID, COURSE_ID)),
+                query("HomeworkRepository.findHomeworksByCourse", t -> t.homeworkRepository.findHomeworksByCourse(COURSE_ID)),
+                query("HomeworkRepository.isUserUploadedHomework", t -> t.homeworkRepository.isUserUploadedHomework(FILE_ID, STUDENT_ID)),
+                query("HomeworkRepository.findAllByUser", t -> t.homeworkRepository.findAllByUser(STUDENT_ID)),
+                query("HomeworkRepository.findAllHomeworksWithInstructorAccess", t -> t.homeworkRepository.findAllHomeworksWithInstructorAccess(INSTRUCTOR_ID)),
+                query("CourseFeedbackRepository.findFeedback", t -> t.courseFeedbackRepository.findFeedback(STUDENT_ID, COURSE_ID)),
+                query("CourseMarkRepository.findCourseMarkByUserIdAndCourseId", t -> t.courseMarkRepository.findCourseMarkByUserIdAndCourseId(STUDENT_ID, COURSE_ID)),
+                query("TokenRepository.findByToken", t -> t.tokenRepository.findByToken("token012")),
+                query("TokenRepository.deletePurgeableTokens", t -> t.tokenRepository.deletePurgeableTokens(Instant.now(), 100))
+        );
+    }
+
+    private static Arguments query(String name, Consumer<QueryPlanTest> call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void testHotQueryDoesNotUseSequentialScan(String name, Consumer<QueryPlanTest> call) {
+        SqlCapture.clear();
+        call.accept(this);
+
+        List<String> statements = SqlCapture.captured().stream()
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6) || sql.regionMatches(true, 0, "delete", 0, 6))
+                .toList();
+        assertFalse(statements.isEmpty(), name + " did not run any select or delete statement");
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("Seq Scan"), name + " uses a sequential scan:\n" + sql + "\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE plan_check AS " + numberParameters(sql));
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE plan_check" + nullArguments(parameterCount))) {
+                    StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                }
+            }
+        });
+    }
+
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static String nullArguments(int parameterCount) {
+        return parameterCount == 0
+                ? ""
+                : IntStream.range(0, parameterCount).mapToObj(i -> "NULL").collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> captured() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
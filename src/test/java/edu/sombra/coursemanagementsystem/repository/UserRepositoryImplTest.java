@@ -2,6 +2,7 @@ package edu.sombra.coursemanagementsystem.repository;
 
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -48,6 +49,23 @@ class UserRepositoryImplTest {
         assertFalse(exists);
     }
 
+    @Test
+    void testSaveUser_DuplicateEmailViolatesUniqueConstraint() {
+        User user = User.builder()
+                .lastName("test")
+                .firstName("user")
+                .password("123")
+                .email("student@gmail.com")
+                .role(RoleEnum.STUDENT)
+                .build();
+
+        userRepository.save(user);
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> userRepository.flush());
+
+        assertEquals("unique_users_email", exception.getConstraintName());
+    }
+
     @Test
     void testFindUserByEmail_ExistingUser() {
         User user = User.builder()
@@ -120,4 +138,44 @@ class UserRepositoryImplTest {
         assertTrue(foundUsers.contains(user1));
         assertTrue(foundUsers.contains(user2));
     }
+
+    @Test
+    void testFindAllAfterReturnsNextPageOrderedById() {
+        List<User> firstPage = userRepository.findAllAfter(null, 2);
+        Long cursor = firstPage.get(firstPage.size() - 1).getId();
+
+        List<User> nextPage = userRepository.findAllAfter(cursor, 2);
+
+        assertEquals(2, firstPage.size());
+        assertTrue(firstPage.get(0).getId() < cursor);
+        assertFalse(nextPage.isEmpty());
+        assertTrue(nextPage.stream().allMatch(user -> user.getId() > cursor));
+    }
+
+    @Test
+    void testIncrementTokenVersion() {
+        User user = User.builder()
+                .lastName("test")
+                .firstName("user")
+                .password("123")
+                .email("versiontest@example.com")
+                .role(RoleEnum.STUDENT)
+                .build();
+
+        userRepository.save(user);
+        entityManager.flush();
+
+        assertEquals(0L, userRepository.findTokenVersion(user.getId()));
+
+        assertEquals(1L, userRepository.incrementTokenVersion(user.getId()));
+        assertEquals(2L, userRepository.incrementTokenVersion(user.getId()));
+        user.setFirstName("renamed");
+        userRepository.update(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2L, userRepository.findTokenVersion(user.getId()));
+        assertNull(userRepository.findTokenVersion(-1L));
+        assertNull(userRepository.incrementTokenVersion(-1L));
+    }
 }
@@ -0,0 +1,73 @@
+package edu.sombra.coursemanagementsystem.repository.token;
+
+import edu.sombra.coursemanagementsystem.entity.Token;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.TokenType;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = Repository.class))
+class TokenRepositoryTest {
+    private static final Long STUDENT_ID = 4L;
+    private static final Long INSTRUCTOR_ID = 3L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Test
+    void testFindByTokenMatchesStoredHash() {
+        saveToken("access-token", STUDENT_ID, false, Instant.now().plus(1, ChronoUnit.HOURS));
+        saveToken("other-access-token", INSTRUCTOR_ID, false, Instant.now().plus(1, ChronoUnit.HOURS));
+
+        assertTrue(tokenRepository.findByToken("access-token").isPresent());
+        assertTrue(tokenRepository.findByToken("other-access-token").isPresent());
+        assertFalse(tokenRepository.findByToken("access-tokeN").isPresent());
+        assertEquals(32, tokenRepository.findByToken("access-token").get().getTokenHash().length);
+    }
+
+    @Test
+    void testDeletePurgeableTokensDeletesRevokedAndExpiredInChunks() {
+        Instant now = Instant.now();
+        saveToken("revoked", INSTRUCTOR_ID, true, now.plus(1, ChronoUnit.HOURS));
+        saveToken("timed-out", INSTRUCTOR_ID, false, now.minus(1, ChronoUnit.MINUTES));
+        saveToken("valid", INSTRUCTOR_ID, false, now.plus(1, ChronoUnit.HOURS));
+        saveToken("other-user-valid", STUDENT_ID, false, now.plus(1, ChronoUnit.HOURS));
+
+        assertEquals(1, tokenRepository.deletePurgeableTokens(now, 1));
+        while (tokenRepository.deletePurgeableTokens(now, 100) == 100) {
+            entityManager.clear();
+        }
+        entityManager.clear();
+
+        assertFalse(tokenRepository.findByToken("revoked").isPresent());
+        assertFalse(tokenRepository.findByToken("timed-out").isPresent());
+        assertTrue(tokenRepository.findByToken("valid").isPresent());
+        assertTrue(tokenRepository.findByToken("other-user-valid").isPresent());
+    }
+
+    private void saveToken(String token, Long userId, boolean revoked, Instant expiresAt) {
+        entityManager.persist(Token.builder()
+                .tokenHash(TokenHash.of(token))
+                .tokenType(TokenType.BEARER)
+                .user(entityManager.find(User.class, userId))
+                .revoked(revoked)
+                .expired(revoked)
+                .expiresAt(expiresAt)
+                .build());
+        entityManager.flush();
+    }
+}
@@ -1,7 +1,10 @@
 package edu.sombra.coursemanagementsystem.security.config;
 
 import edu.sombra.coursemanagementsystem.entity.Token;
+import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenCache;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,13 +31,19 @@ class LogoutServiceTest {
     @Mock
     private TokenRepository tokenRepository;
 
+    @Mock
+    private TokenCache tokenCache;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
     @InjectMocks
     private LogoutService logoutService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        logoutService = new LogoutService(tokenRepository);
+        logoutService = new LogoutService(tokenRepository, tokenCache, tokenVersionCache);
     }
 
     @Test
@@ -44,14 +53,17 @@ class LogoutServiceTest {
         Authentication authentication = mock(Authentication.class);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer mockToken");
-        Token storedToken = Token.builder().token("mockToken").expired(false).revoked(false).build();
+        Token storedToken = Token.builder().user(User.builder().id(4L).build()).build();
         when(tokenRepository.findByToken("mockToken")).thenReturn(Optional.of(storedToken));
 
         logoutService.logout(request, response, authentication);
 
         verify(tokenRepository, times(1)).save(storedToken);
+        assertTrue(storedToken.isRevoked());
+        assertTrue(storedToken.isExpired());
+        verify(tokenVersionCache, times(1)).increment(4L);
+        verify(tokenCache, times(1)).evict("mockToken");
         verify(authentication, never()).setAuthenticated(anyBoolean());
-        assertTrue(storedToken.isExpired() && storedToken.isRevoked());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
@@ -65,31 +77,11 @@ class LogoutServiceTest {
 
         logoutService.logout(request, response, authentication);
 
-        verify(tokenRepository, never()).findByToken(any());
-        verify(tokenRepository, never()).save(any());
+        verifyNoInteractions(tokenRepository, tokenCache, tokenVersionCache);
         verify(authentication, never()).setAuthenticated(anyBoolean());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
-    @Test
-    void testLogout_ValidTokenWhenStoredTokenIsNotNull() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
-        HttpServletResponse response = mock(HttpServletResponse.class);
-        Authentication authentication = mock(Authentication.class);
-
-        when(request.getHeader("Authorization")).thenReturn("Bearer mockToken");
-        Token storedToken = Token.builder().token("mockToken").expired(false).revoked(false).build();
-        when(tokenRepository.findByToken("mockToken")).thenReturn(Optional.of(storedToken));
-
-        logoutService.logout(request, response, authentication);
-
-        verify(tokenRepository, times(1)).save(storedToken);
-
-        assertTrue(storedToken.isExpired());
-        assertTrue(storedToken.isRevoked());
-        assertNull(SecurityContextHolder.getContext().getAuthentication());
-    }
-
     @Test
     void testLogout_TokenNotFound() {
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -102,6 +94,7 @@ class LogoutServiceTest {
         logoutService.logout(request, response, authentication);
 
         verify(tokenRepository, never()).save(any());
+        verifyNoInteractions(tokenCache, tokenVersionCache);
         verify(authentication, never()).setAuthenticated(anyBoolean());
     }
 }
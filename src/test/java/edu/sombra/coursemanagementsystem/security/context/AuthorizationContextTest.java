@@ -0,0 +1,98 @@
+package edu.sombra.coursemanagementsystem.security.context;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.JwtPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationContextTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private AuthorizationContext authorizationContext;
+
+    private final User student = User.builder()
+            .id(4L)
+            .email("student@gmail.com")
+            .role(RoleEnum.STUDENT)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        authorizationContext = new AuthorizationContext(userRepository, new EnrollmentCache(enrollmentRepository, 100, 60000));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testGetUserReturnsAuthenticatedPrincipalWithoutQuery() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(student, null, student.getAuthorities()));
+
+        assertSame(student, authorizationContext.getUser("student@gmail.com"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetUserBuildsUserFromTokenClaimsWithoutQuery() {
+        JwtPrincipal principal = new JwtPrincipal(4L, "student@gmail.com", RoleEnum.STUDENT, 2);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        User user = authorizationContext.getUser("student@gmail.com");
+
+        assertEquals(4L, user.getId());
+        assertEquals(RoleEnum.STUDENT, user.getRole());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetUserLoadsOtherEmailOncePerRequest() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(student, null, student.getAuthorities()));
+        User admin = User.builder().id(1L).email("admin@gmail.com").role(RoleEnum.ADMIN).build();
+        when(userRepository.findUserByEmail("admin@gmail.com")).thenReturn(admin);
+
+        assertSame(admin, authorizationContext.getUser("admin@gmail.com"));
+        assertSame(admin, authorizationContext.getUser("admin@gmail.com"));
+        verify(userRepository, times(1)).findUserByEmail("admin@gmail.com");
+    }
+
+    @Test
+    void testEnrolledCourseIdsAreLoadedOnce() {
+        when(enrollmentRepository.findCourseIdsByUserId(student.getId())).thenReturn(Set.of(1L, 2L));
+
+        assertTrue(authorizationContext.isEnrolledIn(student, 1L));
+        assertTrue(authorizationContext.isEnrolledIn(student, 2L));
+        assertFalse(authorizationContext.isEnrolledIn(student, 3L));
+        assertFalse(authorizationContext.isEnrolledIn(student, null));
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(student.getId());
+    }
+}
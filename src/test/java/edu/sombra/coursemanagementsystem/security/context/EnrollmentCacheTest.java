@@ -0,0 +1,90 @@
+package edu.sombra.coursemanagementsystem.security.context;
+
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentCacheTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private EnrollmentCache enrollmentCache;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentCache = new EnrollmentCache(enrollmentRepository, 2, 60000);
+    }
+
+    @Test
+    void testCourseIdsAreLoadedOnceAndSorted() {
+        when(enrollmentRepository.findCourseIdsByUserId(1L)).thenReturn(Set.of(7L, 3L, 5L));
+
+        assertArrayEquals(new long[]{3L, 5L, 7L}, enrollmentCache.getCourseIds(1L));
+        assertTrue(enrollmentCache.isEnrolled(1L, 5L));
+        assertFalse(enrollmentCache.isEnrolled(1L, 4L));
+        assertFalse(enrollmentCache.isEnrolled(1L, null));
+        assertFalse(enrollmentCache.isEnrolled(null, 5L));
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(1L);
+    }
+
+    @Test
+    void testEvictReloadsCourseIds() {
+        when(enrollmentRepository.findCourseIdsByUserId(1L)).thenReturn(Set.of(), Set.of(2L));
+
+        assertFalse(enrollmentCache.isEnrolled(1L, 2L));
+        enrollmentCache.evict(1L);
+        assertTrue(enrollmentCache.isEnrolled(1L, 2L));
+        verify(enrollmentRepository, times(2)).findCourseIdsByUserId(1L);
+    }
+
+    @Test
+    void testEvictAllReloadsEveryUser() {
+        when(enrollmentRepository.findCourseIdsByUserId(anyLong())).thenReturn(Set.of(1L));
+
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(2L);
+        enrollmentCache.evictAll();
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(2L);
+
+        verify(enrollmentRepository, times(2)).findCourseIdsByUserId(1L);
+        verify(enrollmentRepository, times(2)).findCourseIdsByUserId(2L);
+    }
+
+    @Test
+    void testLeastRecentlyUsedUserIsDroppedWhenFull() {
+        when(enrollmentRepository.findCourseIdsByUserId(anyLong())).thenReturn(Set.of(1L));
+
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(2L);
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(3L);
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(2L);
+
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(1L);
+        verify(enrollmentRepository, times(2)).findCourseIdsByUserId(2L);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(3L);
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() {
+        enrollmentCache = new EnrollmentCache(enrollmentRepository, 2, 0);
+        when(enrollmentRepository.findCourseIdsByUserId(1L)).thenReturn(Set.of(1L));
+
+        enrollmentCache.getCourseIds(1L);
+        enrollmentCache.getCourseIds(1L);
+
+        verify(enrollmentRepository, times(2)).findCourseIdsByUserId(1L);
+    }
+}
@@ -0,0 +1,108 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwksKeyResolverTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicReference<JwtKeys> issuerKeys = new AtomicReference<>();
+
+    private final User user = User.builder()
+            .id(1L)
+            .email("student@gmail.com")
+            .role(RoleEnum.STUDENT)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        issuerKeys.set(new JwtKeys("", "", "", ""));
+    }
+
+    @Test
+    void testVerifierFetchesJwksOnceAndCachesKeys() {
+        JwtService verifier = verifier(60000L);
+        String token = issuer().generateToken(user, 0);
+
+        assertEquals("student@gmail.com", verifier.parseOnce(token).subject());
+        assertEquals("student@gmail.com", verifier.parseOnce(token).subject());
+
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testVerifierRefreshesJwksForRotatedKey() {
+        JwtService verifier = verifier(0L);
+        verifier.parseOnce(issuer().generateToken(user, 0));
+
+        issuerKeys.set(new JwtKeys("", "", "", ""));
+        String rotatedToken = issuer().generateToken(user, 0);
+
+        assertEquals("student@gmail.com", verifier.parseOnce(rotatedToken).subject());
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void testUnknownKeyIsRejectedAndRefreshIsRateLimited() {
+        JwtService verifier = verifier(60000L);
+        verifier.parseOnce(issuer().generateToken(user, 0));
+        JwtKeys foreignKeys = new JwtKeys("", "", "", "");
+        String foreignToken = new JwtService(foreignKeys, foreignKeys, 60000L, 120000L).generateToken(user, 0);
+
+        assertThrows(SignatureException.class, () -> verifier.parseOnce(foreignToken));
+        assertThrows(SignatureException.class, () -> verifier.parseOnce(foreignToken));
+
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testJwksFetchFailureRejectsToken() {
+        JwksKeyResolver keyResolver = new JwksKeyResolver(() -> {
+            fetches.incrementAndGet();
+            throw new UncheckedIOException(new IOException("connect timed out"));
+        }, 60000L);
+        JwtService verifier = new JwtService(new JwtKeys("", "", "", ""), keyResolver, 60000L, 120000L);
+        String token = issuer().generateToken(user, 0);
+
+        assertThrows(SignatureException.class, () -> verifier.parseOnce(token));
+        assertThrows(SignatureException.class, () -> verifier.parseOnce(token));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void testMalformedJwksRejectsToken() {
+        JwksKeyResolver keyResolver = new JwksKeyResolver(() -> "{\"keys\": [{\"kid\": \"broken\"}]}", 60000L);
+        JwtService verifier = new JwtService(new JwtKeys("", "", "", ""), keyResolver, 60000L, 120000L);
+
+        assertThrows(SignatureException.class, () -> verifier.parseOnce(issuer().generateToken(user, 0)));
+    }
+
+    private JwtService issuer() {
+        return new JwtService(issuerKeys.get(), issuerKeys.get(), 60000L, 120000L);
+    }
+
+    private JwtService verifier(long minRefreshInterval) {
+        JwksKeyResolver keyResolver = new JwksKeyResolver(() -> {
+            fetches.incrementAndGet();
+            try {
+                return objectMapper.writeValueAsString(issuerKeys.get().toJwks());
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, minRefreshInterval);
+        return new JwtService(new JwtKeys("", "", "", ""), keyResolver, 60000L, 120000L);
+    }
+}
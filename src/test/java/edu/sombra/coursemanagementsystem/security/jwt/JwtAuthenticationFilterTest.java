@@ -1,76 +1,184 @@
 package edu.sombra.coursemanagementsystem.security.jwt;
 
-import edu.sombra.coursemanagementsystem.entity.Token;
-import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
-
     @Mock
+    private UserRepository userRepository;
+
     private JwtService jwtService;
 
-    @Mock
-    private UserDetailsService userDetailsService;
+    private TokenCache tokenCache;
 
-    @Mock
-    private TokenRepository tokenRepository;
+    private TokenVersionCache tokenVersionCache;
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final User user = User.builder()
+            .id(1L)
+            .email("user@example.com")
+            .role(RoleEnum.INSTRUCTOR)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        JwtKeys jwtKeys = new JwtKeys("", "", "", "");
+        jwtService = spy(new JwtService(jwtKeys, jwtKeys, 60000L, 120000L));
+        tokenCache = new TokenCache(100, 60000);
+        tokenVersionCache = new TokenVersionCache(userRepository, 100, 60000);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, tokenCache, tokenVersionCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testDoFilterInternal_ValidToken() throws ServletException, IOException {
-        HttpServletRequest request = mock(HttpServletRequest.class);
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain filterChain = mock(FilterChain.class);
-
-        when(request.getServletPath()).thenReturn("/api/v1/endpoint");
-        when(request.getHeader("Authorization")).thenReturn("Bearer validToken");
-        when(jwtService.extractUsername("validToken")).thenReturn("user@example.com");
-
-        UserDetails userDetails = mock(UserDetails.class);
-        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
-
-        when(tokenRepository.findByToken("validToken")).thenReturn(Optional.of(Token.builder()
-                        .token("validToken")
-                        .id(1L)
-                .build()));
-        when(jwtService.isTokenValid("validToken", userDetails)).thenReturn(true);
+        when(userRepository.findTokenVersion(1L)).thenReturn(0L);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        verify(userDetailsService).loadUserByUsername("user@example.com");
-        verify(tokenRepository).findByToken("validToken");
-        verify(jwtService).isTokenValid("validToken", userDetails);
+        verify(jwtService).parseOnce(jwt);
+        verify(userRepository, never()).findUserByEmail(any());
         verify(filterChain).doFilter(request, response);
-        verify(userDetails).getAuthorities();
 
+        JwtPrincipal principal = new JwtPrincipal(1L, "user@example.com", RoleEnum.INSTRUCTOR, 0);
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                userDetails,
+                principal,
                 null,
-                userDetails.getAuthorities()
+                principal.getAuthorities()
         );
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         assertEquals(authenticationToken, SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(user, principal.toUser());
+    }
+
+    @Test
+    void testDoFilterInternal_CachedTokenSkipsParsingAndDatabase() throws ServletException, IOException {
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        when(userRepository.findTokenVersion(1L)).thenReturn(0L);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtService, times(1)).parseOnce(jwt);
+        verify(userRepository, times(1)).findTokenVersion(1L);
+        assertEquals(1L, ((JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).id());
+    }
+
+    @Test
+    void testDoFilterInternal_OutdatedVersionIsRejected() throws ServletException, IOException {
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        when(userRepository.findTokenVersion(1L)).thenReturn(1L);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_VersionIncrementRevokesCachedToken() throws ServletException, IOException {
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        when(userRepository.findTokenVersion(1L)).thenReturn(0L, 1L);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        tokenVersionCache.increment(1L);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(userRepository).incrementTokenVersion(1L);
+        verify(jwtService, times(1)).parseOnce(jwt);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_DeletedUserIsRejected() throws ServletException, IOException {
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        when(userRepository.findTokenVersion(1L)).thenReturn(null);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_TokenWithoutClaimsIsRejected() throws ServletException, IOException {
+        String jwt = jwtService.generateRefreshToken(user);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtService, times(1)).parseOnce(jwt);
+        verifyNoInteractions(userRepository);
+        verify(filterChain, times(2)).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDoFilterInternal_EvictedTokenIsVerifiedAgain() throws ServletException, IOException {
+        String jwt = jwtService.generateToken(user, 0);
+        HttpServletRequest request = mockRequest(jwt);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        FilterChain filterChain = mock(FilterChain.class);
+        when(userRepository.findTokenVersion(1L)).thenReturn(0L);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        tokenCache.evict(jwt);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtService, times(2)).parseOnce(jwt);
+    }
+
+    private HttpServletRequest mockRequest(String jwt) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getServletPath()).thenReturn("/api/v1/endpoint");
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        return request;
     }
 }
@@ -0,0 +1,123 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = jwtService(new JwtKeys("", "", "", ""));
+        user = User.builder()
+                .id(1L)
+                .email("student@gmail.com")
+                .role(RoleEnum.STUDENT)
+                .build();
+    }
+
+    @Test
+    void testParseOnce_ReturnsSubjectAndExpiration() {
+        String token = jwtService.generateToken(user, 3);
+
+        ParsedToken parsedToken = jwtService.parseOnce(token);
+
+        assertEquals("student@gmail.com", parsedToken.subject());
+        assertFalse(parsedToken.isExpired());
+        assertEquals(parsedToken.expiration(), parsedToken.claim("exp", Date.class));
+        assertTrue(jwtService.isTokenValid(parsedToken, user));
+    }
+
+    @Test
+    void testGenerateToken_EmbedsPrincipalClaims() {
+        String token = jwtService.generateToken(user, 3);
+
+        JwtPrincipal principal = JwtPrincipal.from(jwtService.parseOnce(token));
+
+        assertEquals(new JwtPrincipal(1L, "student@gmail.com", RoleEnum.STUDENT, 3), principal);
+        assertEquals(RoleEnum.STUDENT.getAuthority(), principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testRefreshToken_HasNoPrincipalClaims() {
+        String token = jwtService.generateRefreshToken(user);
+
+        assertNull(JwtPrincipal.from(jwtService.parseOnce(token)));
+    }
+
+    @Test
+    void testIsTokenValid_OtherUser() {
+        String token = jwtService.generateToken(user, 3);
+        User otherUser = User.builder().email("other@gmail.com").build();
+
+        assertFalse(jwtService.isTokenValid(token, otherUser));
+    }
+
+    @Test
+    void testParseOnce_RejectsTokenSignedWithOtherKey() {
+        String token = jwtService(new JwtKeys("", "", "", "")).generateToken(user, 3);
+
+        assertThrows(SignatureException.class, () -> jwtService.parseOnce(token));
+    }
+
+    @Test
+    void testParseOnce_AcceptsTokenSignedWithRetiredKey() {
+        KeyPair oldKeyPair = JwtKeys.generateKeyPair();
+        KeyPair newKeyPair = JwtKeys.generateKeyPair();
+        JwtService oldService = jwtService(new JwtKeys("key-1", encode(oldKeyPair.getPrivate().getEncoded()),
+                encode(oldKeyPair.getPublic().getEncoded()), ""));
+        JwtKeys rotatedKeys = new JwtKeys("key-2", encode(newKeyPair.getPrivate().getEncoded()),
+                encode(newKeyPair.getPublic().getEncoded()), "key-1:" + encode(oldKeyPair.getPublic().getEncoded()));
+        JwtService rotatedService = jwtService(rotatedKeys);
+
+        String oldToken = oldService.generateToken(user, 3);
+        String newToken = rotatedService.generateToken(user, 3);
+
+        assertEquals("student@gmail.com", rotatedService.parseOnce(oldToken).subject());
+        assertEquals("student@gmail.com", rotatedService.parseOnce(newToken).subject());
+        assertThrows(SignatureException.class, () -> oldService.parseOnce(newToken));
+        assertEquals(2, rotatedKeys.toJwks().getKeys().size());
+        assertEquals("key-2", rotatedKeys.getSigningKid());
+    }
+
+    @Test
+    void testJwtKeys_RejectsMalformedVerificationKeys() {
+        String publicKey = encode(JwtKeys.generateKeyPair().getPublic().getEncoded());
+
+        IllegalStateException missingSeparator = assertThrows(IllegalStateException.class,
+                () -> new JwtKeys("", "", "", publicKey));
+        IllegalStateException missingKid = assertThrows(IllegalStateException.class,
+                () -> new JwtKeys("", "", "", "key-1:" + publicKey + ", :" + publicKey));
+
+        assertEquals(String.format(JwtKeys.INVALID_VERIFICATION_KEY, 1), missingSeparator.getMessage());
+        assertEquals(String.format(JwtKeys.INVALID_VERIFICATION_KEY, 2), missingKid.getMessage());
+    }
+
+    @Test
+    void testJwtKeys_RequiresKidWithConfiguredSigningKey() {
+        KeyPair keyPair = JwtKeys.generateKeyPair();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new JwtKeys(" ",
+                encode(keyPair.getPrivate().getEncoded()), encode(keyPair.getPublic().getEncoded()), ""));
+
+        assertEquals(JwtKeys.MISSING_SIGNING_KID, exception.getMessage());
+    }
+
+    private static JwtService jwtService(JwtKeys jwtKeys) {
+        return new JwtService(jwtKeys, jwtKeys, 60000L, 120000L);
+    }
+
+    private static String encode(byte[] key) {
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
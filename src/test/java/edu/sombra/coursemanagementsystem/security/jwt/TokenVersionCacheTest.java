@@ -0,0 +1,57 @@
+package edu.sombra.coursemanagementsystem.security.jwt;
+
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionCache tokenVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionCache = new TokenVersionCache(userRepository, 100, 60000);
+    }
+
+    @Test
+    void testStaleCacheReloadsOnceForNewerToken() {
+        when(userRepository.findTokenVersion(1L)).thenReturn(1L, 2L);
+
+        assertTrue(tokenVersionCache.isCurrent(principal(1L)));
+        assertTrue(tokenVersionCache.isCurrent(principal(2L)));
+        assertTrue(tokenVersionCache.isCurrent(principal(2L)));
+        verify(userRepository, times(2)).findTokenVersion(1L);
+    }
+
+    @Test
+    void testOlderTokenIsRejectedWithoutReload() {
+        when(userRepository.findTokenVersion(1L)).thenReturn(2L);
+
+        assertTrue(tokenVersionCache.isCurrent(principal(2L)));
+        assertFalse(tokenVersionCache.isCurrent(principal(1L)));
+        verify(userRepository, times(1)).findTokenVersion(1L);
+    }
+
+    @Test
+    void testTokenNewerThanStoredVersionIsRejected() {
+        when(userRepository.findTokenVersion(1L)).thenReturn(1L);
+
+        assertFalse(tokenVersionCache.isCurrent(principal(3L)));
+        verify(userRepository, times(2)).findTokenVersion(1L);
+    }
+
+    private static JwtPrincipal principal(long tokenVersion) {
+        return new JwtPrincipal(1L, "student@gmail.com", RoleEnum.STUDENT, tokenVersion);
+    }
+}
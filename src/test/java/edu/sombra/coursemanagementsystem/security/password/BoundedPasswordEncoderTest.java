@@ -0,0 +1,86 @@
+package edu.sombra.coursemanagementsystem.security.password;
+
+import edu.sombra.coursemanagementsystem.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void testEncodeAndMatchesRunOnHashingThreads() {
+        AtomicReference<String> hashingThread = new AtomicReference<>();
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread.set(Thread.currentThread().getName());
+                return super.encode(rawPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(bCryptPasswordEncoder, 2, 4, meterRegistry);
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+        assertTrue(hashingThread.get().startsWith("password-hashing-"));
+    }
+
+    @Test
+    void testSaturatedExecutorRejectsImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (passwordEncoder.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.encode("third"));
+        assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).counter().count());
+        assertEquals(1.0, meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME)
+                .gauge().value());
+
+        release.countDown();
+        assertEquals("encoded", running.get(5, TimeUnit.SECONDS));
+        assertEquals("encoded", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testDelegateExceptionIsRethrown() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("Encoded password does not look like BCrypt"));
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+
+        assertThrows(IllegalArgumentException.class, () -> passwordEncoder.matches("password", "plain"));
+    }
+}
@@ -2,6 +2,7 @@ package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
 import edu.sombra.coursemanagementsystem.dto.feedback.GetCourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
 import edu.sombra.coursemanagementsystem.entity.User;
@@ -11,6 +12,8 @@ import edu.sombra.coursemanagementsystem.repository.CourseFeedbackRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.CourseFeedbackServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,8 +64,8 @@ class CourseFeedbackServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        courseFeedbackService = new CourseFeedbackServiceImpl(userService, courseFeedbackRepository, enrollmentRepository, courseRepository,
-                courseFeedbackMapper, userRepository);
+        courseFeedbackService = new CourseFeedbackServiceImpl(userService, courseFeedbackRepository, courseRepository,
+                courseFeedbackMapper, userRepository, new AuthorizationContext(userRepository, new EnrollmentCache(enrollmentRepository, 100, 60000)));
     }
 
     private static Stream<Arguments> provideFeedbackTestData() {
@@ -169,8 +173,8 @@ class CourseFeedbackServiceImplTest {
                 .build();
 
         when(courseFeedbackRepository.findFeedback(anyLong(), anyLong())).thenReturn(Optional.empty());
-        when(courseRepository.isUserAssignedToCourse(instructor.getId(), courseFeedbackDTO.getCourseId()))
-                .thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(instructor.getId()))
+                .thenReturn(Set.of(courseFeedbackDTO.getCourseId()));
 
         when(courseRepository.findById(courseFeedbackDTO.getCourseId())).thenReturn(Optional.of(new Course()));
 
@@ -257,17 +261,18 @@ class CourseFeedbackServiceImplTest {
         List<CourseFeedback> feedbackList = new ArrayList<>();
         List<GetCourseFeedbackDTO> expectedDTOList = new ArrayList<>();
 
-        when(courseFeedbackRepository.findAll())
+        when(courseFeedbackRepository.findAllAfter(null, 101))
                 .thenReturn(feedbackList);
 
         when(courseFeedbackMapper.mapToDTO(feedbackList))
                 .thenReturn(expectedDTOList);
 
-        List<GetCourseFeedbackDTO> result = courseFeedbackService.findAll();
+        CursorPage<GetCourseFeedbackDTO> result = courseFeedbackService.findAll(null, 100);
 
-        verify(courseFeedbackRepository).findAll();
+        verify(courseFeedbackRepository).findAllAfter(null, 101);
         verify(courseFeedbackMapper).mapToDTO(feedbackList);
-        assertEquals(expectedDTOList, result);
+        assertEquals(expectedDTOList, result.getItems());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -311,7 +316,7 @@ class CourseFeedbackServiceImplTest {
 
         Long feedbackId = 1L;
 
-        CourseFeedback feedback = CourseFeedback.builder().student(user).instructor(user).build();
+        CourseFeedback feedback = CourseFeedback.builder().student(user).instructor(user).course(Course.builder().id(2L).build()).build();
         GetCourseFeedbackDTO expectedDTO = mock(GetCourseFeedbackDTO.class);
 
         when(userRepository.findUserByEmail(anyString())).thenReturn(user);
@@ -320,7 +325,7 @@ class CourseFeedbackServiceImplTest {
 
         when(courseFeedbackMapper.mapToDTO(feedback)).thenReturn(expectedDTO);
 
-        when(enrollmentRepository.isUserAssignedToCourse(feedback.getCourse(), user)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of(2L));
 
         GetCourseFeedbackDTO resultDTO = courseFeedbackService.findCourseFeedbackById(feedbackId, anyString());
 
@@ -7,6 +7,7 @@ import edu.sombra.coursemanagementsystem.dto.course.LessonsByCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.UserAssignedToCourseDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
@@ -25,8 +26,11 @@ import edu.sombra.coursemanagementsystem.mapper.UserMapper;
 import edu.sombra.coursemanagementsystem.repository.CourseFeedbackRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.CourseServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +51,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,11 +90,16 @@ class CourseServiceImplTest {
     private LessonMapper lessonMapper;
     @Mock
     private CourseMarkMapper courseMarkMapper;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    private EnrollmentCache enrollmentCache;
 
     @BeforeEach
     void setUp() {
+        enrollmentCache = spy(new EnrollmentCache(enrollmentRepository, 100, 60000));
         courseService = new CourseServiceImpl(courseRepository, courseFeedbackRepository, courseMarkRepository, userService,
-                enrollmentService,userRepository, homeworkRepository, lessonService, userMapper, courseMapper, courseMarkMapper, lessonMapper);
+                enrollmentService,userRepository, homeworkRepository, lessonService, userMapper, courseMapper, courseMarkMapper, lessonMapper,
+                new AuthorizationContext(userRepository, enrollmentCache), enrollmentCache);
     }
 
     private static Stream<Arguments> lessonListProvider() {
@@ -258,7 +270,24 @@ class CourseServiceImplTest {
 
         courseService.startCoursesOnSchedule();
 
-        verify(courseRepository, times(1)).saveAll(coursesToStart);
+        assertTrue(coursesToStart.stream().allMatch(course -> course.getStatus() == CourseStatus.STARTED));
+        verify(courseRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testStartCoursesOnScheduleMoreThanBatchSize() {
+        LocalDate currentDate = LocalDate.now();
+        List<Course> coursesToStart = LongStream.rangeClosed(1, 60)
+                .mapToObj(id -> Course.builder().id(id).status(CourseStatus.WAIT).startDate(currentDate).build())
+                .toList();
+
+        when(courseRepository.findByStartDate(currentDate)).thenReturn(coursesToStart);
+        when(lessonService.findAllLessonsByCourse(anyLong())).thenReturn(createLessonResponseList(5));
+
+        courseService.startCoursesOnSchedule();
+
+        assertTrue(coursesToStart.stream().allMatch(course -> course.getStatus() == CourseStatus.STARTED));
+        verify(courseRepository, never()).saveAll(any());
     }
 
     @Test
@@ -434,7 +463,6 @@ class CourseServiceImplTest {
                 .startDate(LocalDate.now())
                 .build();
 
-        when(courseMapper.fromDTO(updatedCourse)).thenReturn(createSampleCourse());
         when(courseRepository.exist(updatedCourse.getName())).thenReturn(false);
         when(courseRepository.update(any())).thenReturn(existingCourse);
         when(courseRepository.findById(updatedCourse.getId())).thenReturn(Optional.of(existingCourse));
@@ -445,6 +473,9 @@ class CourseServiceImplTest {
         verify(courseRepository, times(1)).update(existingCourse);
 
         assertEquals(responseCourse, result);
+        assertEquals("New Course Name", existingCourse.getName());
+        assertEquals(CourseStatus.STARTED, existingCourse.getStatus());
+        assertEquals(LocalDate.now(), existingCourse.getStartDate());
     }
 
     @Test
@@ -477,6 +508,7 @@ class CourseServiceImplTest {
 
         verify(courseRepository, times(1)).findById(courseId);
         verify(courseRepository, times(1)).delete(existingCourse);
+        verify(enrollmentCache, times(1)).evictAll();
     }
 
     @Test
@@ -501,14 +533,15 @@ class CourseServiceImplTest {
         List<Course> expectedCourses = Arrays.asList(course1, course2);
         List<CourseResponseDTO> responseDTOList = Arrays.asList(createCourseResponseDTO(), createCourseResponseDTO());
         when(courseMapper.mapToResponsesDTO(expectedCourses)).thenReturn(responseDTOList);
-        when(courseRepository.findAll()).thenReturn(expectedCourses);
+        when(courseRepository.findAllAfter(null, 101)).thenReturn(expectedCourses);
 
-        List<CourseResponseDTO> resultCourses = courseService.findAllCourses();
+        CursorPage<CourseResponseDTO> resultCourses = courseService.findAllCourses(null, 100);
 
         assertNotNull(resultCourses);
-        assertEquals(expectedCourses.size(), resultCourses.size());
+        assertEquals(expectedCourses.size(), resultCourses.getItems().size());
+        assertNull(resultCourses.getNextCursor());
 
-        verify(courseRepository, times(1)).findAll();
+        verify(courseRepository, times(1)).findAllAfter(null, 101);
     }
 
     @Test
@@ -613,17 +646,6 @@ class CourseServiceImplTest {
     @Test
     void testFindAllLessonsByCourse() {
         Long courseId = 1L;
-        Lesson sampleLesson = createSampleLesson(1L, "Sample Lesson");
-        List<Lesson> expectedLessons = Collections.singletonList(sampleLesson);
-
-        CourseResponseDTO courseResponseDTO = CourseResponseDTO.builder()
-                .courseId(1L)
-                .courseName("Sample Course")
-                .status(CourseStatus.WAIT)
-                .startDate(LocalDate.now())
-                .build();
-
-        List<CourseResponseDTO> courseResponseList = List.of(courseResponseDTO);
         List<LessonResponseDTO> lessons = Arrays.asList(
                 LessonResponseDTO.builder()
                         .id(1L)
@@ -637,45 +659,27 @@ class CourseServiceImplTest {
                         .build()
         );
 
-        List<LessonResponseDTO> expectedResponseDTOs = Arrays.asList(
-                LessonResponseDTO.builder()
-                        .id(1L)
-                        .name("Introduction to Spring")
-                        .course(mock(CourseResponseDTO.class))
-                        .build(),
-                LessonResponseDTO.builder()
-                        .id(2L)
-                        .name("Introduction to Scala")
-                        .course(mock(CourseResponseDTO.class))
-                        .build()
-        );
-
-        when(courseRepository.findAllLessonsInCourse(courseId))
-                .thenReturn(Optional.of(expectedLessons));
-        when(courseMapper.mapToResponseDTO(sampleLesson.getCourse())).thenReturn(courseResponseDTO);
-
-        when(lessonMapper.mapToResponsesDTO(expectedLessons, courseResponseList)).thenReturn(lessons);
+        when(lessonService.findAllLessonsByCourse(courseId)).thenReturn(lessons);
 
         List<LessonResponseDTO> resultLessons = courseService.findAllLessonsByCourse(courseId);
 
         assertNotNull(resultLessons);
-        assertEquals(expectedResponseDTOs.get(0).getName(), resultLessons.get(0).getName());
-        assertEquals(expectedResponseDTOs.get(0).getId(), resultLessons.get(0).getId());
+        assertEquals(lessons.get(0).getName(), resultLessons.get(0).getName());
+        assertEquals(lessons.get(0).getId(), resultLessons.get(0).getId());
 
-        verify(courseRepository, times(1)).findAllLessonsInCourse(courseId);
+        verify(lessonService, times(1)).findAllLessonsByCourse(courseId);
+        verify(courseMapper, never()).mapToResponseDTO(any());
     }
 
     @Test
     void testFindAllLessonsByCourseWhenNoneFound() {
         Long courseId = 1L;
 
-        when(courseRepository.findAllLessonsInCourse(courseId))
-                .thenReturn(Optional.empty());
+        when(lessonService.findAllLessonsByCourse(courseId)).thenReturn(Collections.emptyList());
 
-        assertThrows(EntityNotFoundException.class,
-                () -> courseService.findAllLessonsByCourse(courseId));
+        assertTrue(courseService.findAllLessonsByCourse(courseId).isEmpty());
 
-        verify(courseRepository, times(1)).findAllLessonsInCourse(courseId);
+        verify(lessonService, times(1)).findAllLessonsByCourse(courseId);
     }
 
     @Test
@@ -687,7 +691,7 @@ class CourseServiceImplTest {
 
         List<User> userList = Collections.singletonList(createSampleUser(2L, "student@example.com"));
         when(courseRepository.findUsersInCourse(courseId)).thenReturn(userList);
-        when(courseRepository.isUserAssignedToCourse(instructorId, courseId)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(instructorId)).thenReturn(Set.of(courseId));
 
         List<UserAssignedToCourseDTO> userDTOList = Collections.singletonList(createSampleUserDTO(2L, "student@example.com"));
         when(userMapper.mapUsersToDTO(userList)).thenReturn(userDTOList);
@@ -708,13 +712,13 @@ class CourseServiceImplTest {
         Long studentId = 1L;
         Long courseId = 2L;
 
-        when(courseRepository.isUserAssignedToCourse(studentId, courseId)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(studentId)).thenReturn(Set.of(courseId));
         when(courseRepository.findById(courseId)).thenReturn(createSampleCourse(courseId));
         when(courseRepository.findAllLessonsByCourseAssignedToUserId(studentId, courseId)).thenReturn(Optional.of(createSampleLessons()));
         when(courseMarkRepository.findCourseMarkByUserIdAndCourseId(studentId, courseId)).thenReturn(Optional.of(mock(CourseMark.class)));
         when(courseFeedbackRepository.findFeedback(studentId, courseId)).thenReturn(Optional.ofNullable(mock(CourseFeedback.class)));
         when(lessonMapper.toDTO(any(), any())).thenReturn(mock(LessonDTO.class));
-        when(homeworkRepository.findByUserAndLessonId(eq(studentId), any())).thenReturn(Optional.ofNullable(createSampleHomework()));
+        when(homeworkRepository.findAllByUserAndCourseId(studentId, courseId)).thenReturn(Map.of(1L, createSampleHomework()));
 
         when(courseMapper.toDTO(any(), any(), any(), any())).thenReturn(mock(LessonsByCourseDTO.class));
 
@@ -722,11 +726,13 @@ class CourseServiceImplTest {
 
         assertNotNull(resultDTO);
 
-        verify(courseRepository, times(1)).isUserAssignedToCourse(studentId, courseId);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(studentId);
         verify(courseRepository, times(1)).findById(courseId);
         verify(courseRepository, times(1)).findAllLessonsByCourseAssignedToUserId(studentId, courseId);
         verify(courseMarkRepository, times(1)).findCourseMarkByUserIdAndCourseId(studentId, courseId);
         verify(courseFeedbackRepository, times(1)).findFeedback(studentId, courseId);
+        verify(homeworkRepository, times(1)).findAllByUserAndCourseId(studentId, courseId);
+        verify(homeworkRepository, never()).findByUserAndLessonId(any(), any());
         verify(courseMapper, times(1)).toDTO(any(), any(), any(), any());
     }
 
@@ -756,7 +762,7 @@ class CourseServiceImplTest {
                 .passed(true)
                 .build();
 
-        when(courseRepository.isUserAssignedToCourse(studentId, courseId)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(studentId)).thenReturn(Set.of(courseId));
         when(courseMarkRepository.findCourseMarkByUserIdAndCourseId(studentId, courseId)).thenReturn(Optional.of(courseMark));
 
         ArgumentCaptor<CourseMark> courseMarkCaptor = ArgumentCaptor.forClass(CourseMark.class);
@@ -769,7 +775,7 @@ class CourseServiceImplTest {
         assertNotNull(resultCourseMark);
         assertTrue(resultCourseMark.getPassed());
 
-        verify(courseRepository, times(1)).isUserAssignedToCourse(studentId, courseId);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(studentId);
         verify(courseMarkRepository, times(1)).findCourseMarkByUserIdAndCourseId(studentId, courseId);
         verify(courseMarkRepository, times(1)).update(any());
 
@@ -786,11 +792,11 @@ class CourseServiceImplTest {
         Long studentId = 1L;
         Long courseId = 2L;
 
-        when(courseRepository.isUserAssignedToCourse(studentId, courseId)).thenReturn(false);
+        when(enrollmentRepository.findCourseIdsByUserId(studentId)).thenReturn(Set.of());
 
         assertThrows(EntityNotFoundException.class, () -> courseService.finishCourse(studentId, courseId));
 
-        verify(courseRepository, times(1)).isUserAssignedToCourse(studentId, courseId);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(studentId);
         verify(courseMarkRepository, never()).findCourseMarkByUserIdAndCourseId(any(), any());
         verify(courseMarkRepository, never()).update(any());
     }
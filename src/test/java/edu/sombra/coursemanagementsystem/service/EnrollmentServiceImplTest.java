@@ -1,6 +1,8 @@
 package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentDTO;
+import edu.sombra.coursemanagementsystem.dto.enrollment.BulkEnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentApplyForCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentGetByNameDTO;
@@ -9,7 +11,6 @@ import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.enrollment.EnrollmentUpdateDTO;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Enrollment;
-import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.CourseStatus;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
@@ -21,6 +22,8 @@ import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.EnrollmentServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,7 +41,10 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +58,7 @@ class EnrollmentServiceImplTest {
     private EnrollmentServiceImpl enrollmentService;
     @Mock
     private EnrollmentRepository enrollmentRepository;
+    private EnrollmentCache enrollmentCache;
     @Mock
     private CourseMapper courseMapper;
     @Mock
@@ -65,8 +72,10 @@ class EnrollmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        enrollmentCache = spy(new EnrollmentCache(enrollmentRepository, 100, 60000));
         enrollmentService = new EnrollmentServiceImpl(enrollmentRepository, courseMapper, courseRepository,
-                userRepository, homeworkRepository, enrollmentMapper);
+                userRepository, homeworkRepository, enrollmentMapper, new AuthorizationContext(userRepository, enrollmentCache),
+                enrollmentCache);
     }
 
     private static Stream<Arguments> provideTestDataForAssignInstructor() {
@@ -279,8 +288,10 @@ class EnrollmentServiceImplTest {
         Enrollment mockEnrollment = mock(Enrollment.class);
         EnrollmentGetByNameDTO expectedDTO = new EnrollmentGetByNameDTO("name", "firstName", "lastName", "email.com", RoleEnum.INSTRUCTOR);
 
-        when(enrollmentRepository.findById(updateDTO.getId())).thenReturn(Optional.of(mock(Enrollment.class)));
-        when(userRepository.findById(updateDTO.getUserId())).thenReturn(Optional.of(mock(User.class)));
+        Enrollment existingEnrollment = Enrollment.builder().user(User.builder().id(2L).build()).build();
+
+        when(enrollmentRepository.findById(updateDTO.getId())).thenReturn(Optional.of(existingEnrollment));
+        when(userRepository.findById(updateDTO.getUserId())).thenReturn(Optional.of(User.builder().id(1L).build()));
         when(courseRepository.findById(updateDTO.getCourseId())).thenReturn(Optional.ofNullable(mockCourse));
         when(enrollmentRepository.update(any(Enrollment.class))).thenReturn(mockEnrollment);
         when(enrollmentMapper.mapToDTO(mockEnrollment)).thenReturn(expectedDTO);
@@ -288,6 +299,8 @@ class EnrollmentServiceImplTest {
         EnrollmentGetByNameDTO resultDTO = assertDoesNotThrow(() -> enrollmentService.updateEnrollment(updateDTO));
 
         assertNotNull(resultDTO);
+        verify(enrollmentCache, times(1)).evict(2L);
+        verify(enrollmentCache, times(1)).evict(1L);
     }
 
     @Test
@@ -319,10 +332,6 @@ class EnrollmentServiceImplTest {
                 .course(mockCourse)
                 .user(mockUser)
                 .build();
-        Lesson mockLesson = Lesson.builder()
-                .id(2L)
-                .course(mockCourse)
-                .build();
         EnrollmentResponseDTO enrollmentResponse = EnrollmentResponseDTO.builder()
                 .courseId(mockCourse.getId())
                 .userId(mockUser.getId())
@@ -332,16 +341,17 @@ class EnrollmentServiceImplTest {
                 .build();
 
         when(userRepository.findUserByEmail(userEmail)).thenReturn(mockUser);
+        when(userRepository.findById(mockUser.getId())).thenReturn(Optional.of(mockUser));
         when(enrollmentRepository.getUserRegisteredCourseCount(mockUser.getId())).thenReturn(3L);
         when(courseRepository.findByName(applyForCourseDTO.getCourseName())).thenReturn(Optional.ofNullable(mockCourse));
-        when(courseRepository.findAllLessonsInCourse(mockCourse.getId())).thenReturn(Optional.of(List.of(mockLesson)));
         when(enrollmentMapper.mapToResponseDTO(mockEnrollment)).thenReturn(enrollmentResponse);
 
         EnrollmentResponseDTO responseDTO = enrollmentService.applyForCourse(applyForCourseDTO, userEmail);
 
         assertEquals(mockEnrollment.getCourse().getName(), responseDTO.getCourseName());
         verify(enrollmentRepository, times(1)).save(mockEnrollment);
-        verify(homeworkRepository, times(1)).assignUserForLesson(mockUser.getId(), 2L);
+        verify(homeworkRepository, times(1)).assignUsersToCourseLessons(List.of(mockUser.getId()), mockCourse.getId());
+        verify(enrollmentCache, times(1)).evict(mockUser.getId());
     }
 
     @Test
@@ -352,6 +362,7 @@ class EnrollmentServiceImplTest {
 
         when(userRepository.findUserByEmail(userEmail)).thenReturn(mockUser);
         when(mockUser.getRole()).thenReturn(RoleEnum.STUDENT);
+        when(userRepository.findById(mockUser.getId())).thenReturn(Optional.of(mockUser));
         when(enrollmentRepository.getUserRegisteredCourseCount(mockUser.getId())).thenReturn(5L);
 
         EnrollmentException exception = assertThrows(EnrollmentException.class, () -> enrollmentService.applyForCourse(applyForCourseDTO, userEmail));
@@ -383,18 +394,85 @@ class EnrollmentServiceImplTest {
                 .name("Course 1")
                 .build();
 
-        Lesson mockLesson = Lesson.builder()
-                .id(2L)
-                .course(mockCourse)
-                .build();
-
 
         when(userRepository.findUserByEmail(studentMail)).thenReturn(adminUser);
         when(courseRepository.findByName(applyForCourseDTO.getCourseName())).thenReturn(Optional.ofNullable(mockCourse));
         when(userRepository.findById(2L)).thenReturn(Optional.ofNullable(studentUser));
-        when(courseRepository.findAllLessonsInCourse(mockCourse.getId())).thenReturn(Optional.of(List.of(mockLesson)));
 
         assertDoesNotThrow(() -> enrollmentService.applyForCourse(applyForCourseDTO, studentMail));
+        verify(homeworkRepository, times(1)).assignUsersToCourseLessons(List.of(studentUser.getId()), mockCourse.getId());
+    }
+
+    @Test
+    void testBulkEnrollSkipsAssignedAndFullUsers() {
+        BulkEnrollmentDTO bulkEnrollmentDTO = BulkEnrollmentDTO.builder()
+                .courseName("Course 1")
+                .userIds(Arrays.asList(1L, 2L, 3L, 2L, null, 4L))
+                .build();
+        Course course = Course.builder()
+                .id(2L)
+                .name("Course 1")
+                .build();
+        List<Long> requestedIds = List.of(1L, 2L, 3L, 4L);
+
+        when(courseRepository.findByName("Course 1")).thenReturn(Optional.of(course));
+        when(enrollmentRepository.findUserIdsAssignedToCourse(course.getId(), requestedIds)).thenReturn(Set.of(2L));
+        when(enrollmentRepository.getUserRegisteredCourseCounts(requestedIds)).thenReturn(Map.of(1L, 1L, 3L, 5L));
+        when(enrollmentRepository.enrollUsers(List.of(1L, 4L), course.getId())).thenReturn(List.of(1L, 4L));
+
+        BulkEnrollmentResponseDTO response = enrollmentService.bulkEnroll(bulkEnrollmentDTO);
+
+        assertEquals(course.getId(), response.getCourseId());
+        assertEquals(List.of(1L, 4L), response.getEnrolledUserIds());
+        assertEquals(List.of(2L, 3L), response.getSkippedUserIds());
+        verify(homeworkRepository, times(1)).assignUsersToCourseLessons(Set.of(1L, 4L), course.getId());
+    }
+
+    @Test
+    void testBulkEnrollWhenNobodyIsEligible() {
+        BulkEnrollmentDTO bulkEnrollmentDTO = BulkEnrollmentDTO.builder()
+                .courseName("Course 1")
+                .userIds(List.of(1L))
+                .build();
+        Course course = Course.builder()
+                .id(2L)
+                .name("Course 1")
+                .build();
+
+        when(courseRepository.findByName("Course 1")).thenReturn(Optional.of(course));
+        when(enrollmentRepository.findUserIdsAssignedToCourse(course.getId(), List.of(1L))).thenReturn(Set.of(1L));
+        when(enrollmentRepository.getUserRegisteredCourseCounts(List.of(1L))).thenReturn(Map.of());
+
+        BulkEnrollmentResponseDTO response = enrollmentService.bulkEnroll(bulkEnrollmentDTO);
+
+        assertTrue(response.getEnrolledUserIds().isEmpty());
+        assertEquals(List.of(1L), response.getSkippedUserIds());
+        verify(enrollmentRepository, never()).enrollUsers(any(), any());
+        verify(homeworkRepository, never()).assignUsersToCourseLessons(any(), any());
+    }
+
+    @Test
+    void testBulkEnrollWithEmptyUserIds() {
+        BulkEnrollmentDTO bulkEnrollmentDTO = BulkEnrollmentDTO.builder()
+                .courseName("Course 1")
+                .userIds(List.of())
+                .build();
+
+        EnrollmentException exception = assertThrows(EnrollmentException.class, () -> enrollmentService.bulkEnroll(bulkEnrollmentDTO));
+        assertEquals("Elements are empty!", exception.getMessage());
+        verifyNoInteractions(courseRepository, enrollmentRepository, homeworkRepository);
+    }
+
+    @Test
+    void testBulkEnrollWithTooManyUsers() {
+        List<Long> userIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+        BulkEnrollmentDTO bulkEnrollmentDTO = BulkEnrollmentDTO.builder()
+                .courseName("Course 1")
+                .userIds(userIds)
+                .build();
+
+        assertThrows(EnrollmentException.class, () -> enrollmentService.bulkEnroll(bulkEnrollmentDTO));
+        verifyNoInteractions(courseRepository, enrollmentRepository, homeworkRepository);
     }
 
     @Test
@@ -454,19 +532,11 @@ class EnrollmentServiceImplTest {
         Long userId = 1L;
         Long homeworkId = 2L;
 
-        Course mockCourse = Course.builder()
-                .id(3L)
-                .build();
-        User mockUser = User.builder()
-                .id(userId)
-                .build();
-
-        when(courseRepository.findCourseByHomeworkId(homeworkId)).thenReturn(Optional.of(mockCourse));
-        when(userRepository.findById(userId)).thenReturn(Optional.ofNullable(mockUser));
-        when(enrollmentRepository.isUserAssignedToCourse(mockCourse, mockUser)).thenReturn(true);
+        when(enrollmentRepository.isUserAssignedToHomeworkCourse(userId, homeworkId)).thenReturn(true);
         boolean result = enrollmentService.isUserAssignedToCourse(userId, homeworkId);
 
         assertTrue(result);
+        verifyNoInteractions(courseRepository, userRepository);
     }
 
     @Test
@@ -474,18 +544,10 @@ class EnrollmentServiceImplTest {
         Long userId = 1L;
         Long homeworkId = 2L;
 
-        Course mockCourse = Course.builder()
-                .id(3L)
-                .build();
-        User mockUser = User.builder()
-                .id(userId)
-                .build();
-
-        when(courseRepository.findCourseByHomeworkId(homeworkId)).thenReturn(Optional.of(mockCourse));
-        when(userRepository.findById(userId)).thenReturn(Optional.ofNullable(mockUser));
-        when(enrollmentRepository.isUserAssignedToCourse(mockCourse, mockUser)).thenReturn(false);
+        when(enrollmentRepository.isUserAssignedToHomeworkCourse(userId, homeworkId)).thenReturn(false);
         boolean result = enrollmentService.isUserAssignedToCourse(userId, homeworkId);
 
         assertFalse(result);
+        verifyNoInteractions(courseRepository, userRepository);
     }
 }
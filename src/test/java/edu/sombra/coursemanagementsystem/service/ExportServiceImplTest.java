@@ -0,0 +1,92 @@
+package edu.sombra.coursemanagementsystem.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.sombra.coursemanagementsystem.dto.course.CourseMarkExportDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkExportDTO;
+import edu.sombra.coursemanagementsystem.repository.CourseMarkRepository;
+import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
+import edu.sombra.coursemanagementsystem.service.impl.ExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+    private static final int FETCH_SIZE = 100;
+
+    @Mock
+    private HomeworkRepository homeworkRepository;
+
+    @Mock
+    private CourseMarkRepository courseMarkRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(homeworkRepository, courseMarkRepository, objectMapper, FETCH_SIZE);
+    }
+
+    @Test
+    void testExportHomeworks_WritesOneJsonObjectPerLineAndClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<HomeworkExportDTO> homeworks = Stream.of(
+                HomeworkExportDTO.builder().id(1L).mark(90L).userId(4L).fileName("a.txt").build(),
+                HomeworkExportDTO.builder().id(2L).userId(5L).build()
+        ).onClose(() -> closed.set(true));
+        when(homeworkRepository.streamAllForExport(FETCH_SIZE)).thenReturn(homeworks);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.exportHomeworks(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals(90L, first.get("mark").asLong());
+        assertEquals("a.txt", first.get("fileName").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("mark").isNull());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportCourseMarks_WritesNothingForEmptyTable() throws IOException {
+        when(courseMarkRepository.streamAllForExport(FETCH_SIZE)).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.exportCourseMarks(outputStream);
+
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    void testExportCourseMarks_WritesScoreAndPassedFlag() throws IOException {
+        when(courseMarkRepository.streamAllForExport(FETCH_SIZE)).thenReturn(Stream.of(
+                CourseMarkExportDTO.builder().id(3L).userId(4L).courseId(1L).totalScore(BigDecimal.valueOf(85.5)).passed(true).build()
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.exportCourseMarks(outputStream);
+
+        String output = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(output.endsWith("\n"));
+        JsonNode row = objectMapper.readTree(output);
+        assertEquals(85.5, row.get("totalScore").asDouble());
+        assertTrue(row.get("passed").asBoolean());
+    }
+}
@@ -8,10 +8,13 @@ import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.mapper.FileMapper;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.FileRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.FileServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
@@ -25,11 +28,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +44,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FileServiceImplTest {
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
 
     private FileService fileService;
 
@@ -55,14 +63,21 @@ class FileServiceImplTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
 
     @Mock
     private FileMapper fileMapper;
 
+    @Mock
+    private FileStorage fileStorage;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        fileService = new FileServiceImpl(fileRepository, homeworkRepository, userRepository, courseRepository, lessonRepository, fileMapper);
+        fileService = new FileServiceImpl(fileRepository, homeworkRepository, userRepository, courseRepository, lessonRepository, fileMapper, fileStorage,
+                new AuthorizationContext(userRepository, new EnrollmentCache(enrollmentRepository, 100, 60000)));
     }
 
     public static Object[][] provideFileAndUserTestData() {
@@ -108,12 +123,14 @@ class FileServiceImplTest {
                 .build();
 
         when(uploadedFile.getOriginalFilename()).thenReturn(fileName);
-        when(uploadedFile.getBytes()).thenReturn(fileData);
+        when(uploadedFile.getSize()).thenReturn((long) fileData.length);
+        when(uploadedFile.getInputStream()).thenReturn(new ByteArrayInputStream(fileData));
+        when(fileStorage.store(any(InputStream.class))).thenReturn(CONTENT_HASH);
 
         when(userRepository.existsById(userId)).thenReturn(true);
         when(lessonRepository.existsById(lessonId)).thenReturn(true);
         when(homeworkRepository.findByUserAndLessonId(userId, lessonId)).thenReturn(Optional.ofNullable(existingHomework));
-        File file = new File();
+        File file = File.builder().id(1L).build();
         when(fileRepository.save(any(File.class))).thenReturn(file);
         when(fileMapper.mapToResponseDTO(file)).thenReturn(fileResponseDTO);
 
@@ -123,6 +140,10 @@ class FileServiceImplTest {
         assertEquals(fileResponseDTO.getName(), response.getName());
 
         verify(fileRepository, times(1)).save(any(File.class));
+        verify(fileStorage, times(1)).store(any(InputStream.class));
+        verify(fileRepository, times(1)).save(argThat(saved -> CONTENT_HASH.equals(saved.getContentHash())
+                && saved.getFileSize() == fileData.length));
+        verify(fileRepository, never()).saveFileData(any(), any(), anyLong());
         verify(homeworkRepository, times(1)).update(existingHomework);
     }
 
@@ -208,6 +229,20 @@ class FileServiceImplTest {
         verify(fileRepository).delete(file);
     }
 
+    @Test
+    void testDelete_LeavesStoredContentToOrphanSweep() throws IOException {
+        Long fileId = 1L;
+        String adminEmail = "admin@example.com";
+        when(userRepository.findUserByEmail(adminEmail)).thenReturn(User.builder().role(RoleEnum.ADMIN).build());
+        File file = File.builder().id(fileId).contentHash(CONTENT_HASH).build();
+        when(fileRepository.findById(fileId)).thenReturn(Optional.of(file));
+
+        fileService.delete(fileId, adminEmail);
+
+        verify(fileRepository).delete(file);
+        verifyNoInteractions(fileStorage);
+    }
+
     @Test
     void testDelete_NormalUser_NoPermission() {
         Long fileId = 3L;
@@ -226,24 +261,29 @@ class FileServiceImplTest {
     @MethodSource("provideFileAndUserTestData")
     void testDownloadFile_SuccessfulDownload(Long fileId, String fileName, String fileData, String userEmail, RoleEnum userRole, boolean userAssignedToCourse) {
         File file = new File();
+        file.setId(fileId);
         file.setFileName(fileName);
-        file.setFileData(fileData.getBytes());
+        file.setFileSize((long) fileData.length());
         when(fileRepository.findById(fileId)).thenReturn(Optional.of(file));
+        when(fileRepository.readFileData(eq(fileId), eq(0L), anyInt())).thenReturn(fileData.getBytes());
 
-        User user = User.builder().email(userEmail).role(userRole).build();
+        User user = User.builder().id(2L).email(userEmail).role(userRole).build();
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
 
         if (!userRole.equals(RoleEnum.ADMIN)) {
-            Course course = mock(Course.class);
+            Course course = Course.builder().id(fileId).build();
             when(courseRepository.findCourseByFileId(fileId)).thenReturn(Optional.of(course));
-            when(courseRepository.isUserAssignedToCourse(user.getId(), course.getId())).thenReturn(userAssignedToCourse);
+            when(enrollmentRepository.findCourseIdsByUserId(user.getId()))
+                    .thenReturn(userAssignedToCourse ? Set.of(course.getId()) : Set.of());
         }
 
         assertDoesNotThrow(() -> {
             Resource resource = fileService.downloadFile(fileId, userEmail);
             assertNotNull(resource);
-            assertTrue(resource instanceof ByteArrayResource);
+            assertTrue(resource instanceof InputStreamResource);
             assertEquals(fileName, resource.getFilename());
+            assertEquals(fileData.length(), resource.contentLength());
+            assertArrayEquals(fileData.getBytes(), resource.getInputStream().readAllBytes());
         });
     }
 
@@ -252,16 +292,17 @@ class FileServiceImplTest {
     void testDownloadFile_UserHasNoAccess(Long fileId, String fileName, String fileData, String userEmail, RoleEnum userRole, boolean userAssignedToCourse) {
         File file = new File();
         file.setFileName(fileName);
-        file.setFileData(fileData.getBytes());
+        file.setFileSize((long) fileData.length());
         when(fileRepository.findById(fileId)).thenReturn(Optional.of(file));
 
-        User user = User.builder().email(userEmail).role(userRole).build();
+        User user = User.builder().id(2L).email(userEmail).role(userRole).build();
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
 
         if (userRole.equals(RoleEnum.INSTRUCTOR)) {
-            Course course = mock(Course.class);
+            Course course = Course.builder().id(fileId).build();
             when(courseRepository.findCourseByFileId(fileId)).thenReturn(Optional.of(course));
-            when(courseRepository.isUserAssignedToCourse(user.getId(), course.getId())).thenReturn(userAssignedToCourse);
+            when(enrollmentRepository.findCourseIdsByUserId(user.getId()))
+                    .thenReturn(userAssignedToCourse ? Set.of(course.getId()) : Set.of());
         }
         if (userRole.equals(RoleEnum.STUDENT)) {
             when(homeworkRepository.isUserUploadedHomework(fileId, user.getId())).thenReturn(false);
@@ -274,12 +315,32 @@ class FileServiceImplTest {
         assertEquals("User hasn't access to this file!", exception.getMessage());
     }
 
+    @Test
+    void testDownloadFile_FromFileStorage() {
+        Long fileId = 4L;
+        File file = File.builder()
+                .id(fileId)
+                .fileName("stored.txt")
+                .fileSize(6L)
+                .contentHash(CONTENT_HASH)
+                .build();
+        Resource storedResource = new ByteArrayResource("stored".getBytes());
+        when(fileRepository.findById(fileId)).thenReturn(Optional.of(file));
+        when(userRepository.findUserByEmail("admin@gmail.com")).thenReturn(User.builder().role(RoleEnum.ADMIN).build());
+        when(fileStorage.load(CONTENT_HASH, "stored.txt")).thenReturn(storedResource);
+
+        Resource resource = fileService.downloadFile(fileId, "admin@gmail.com");
+
+        assertSame(storedResource, resource);
+        verify(fileRepository, never()).readFileData(any(), anyLong(), anyInt());
+    }
+
     @Test
     void testDownloadFile_FileDataOrNameIsNull() {
         Long fileId = 2L;
         File file = new File();
         file.setFileName(null);
-        file.setFileData(new byte[]{1, 2, 3});
+        file.setFileSize(3L);
         when(fileRepository.findById(fileId)).thenReturn(Optional.of(file));
         User user = User.builder().id(1L).role(RoleEnum.ADMIN).build();
         when(userRepository.findUserByEmail(anyString())).thenReturn(user);
@@ -0,0 +1,95 @@
+package edu.sombra.coursemanagementsystem.service;
+
+import edu.sombra.coursemanagementsystem.entity.File;
+import edu.sombra.coursemanagementsystem.repository.FileRepository;
+import edu.sombra.coursemanagementsystem.service.impl.FileStorageMigrationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileStorageMigrationServiceImplTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long GRACE_PERIOD = 3600000L;
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileStorage fileStorage;
+
+    private FileStorageMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        migrationService = new FileStorageMigrationServiceImpl(fileRepository, fileStorage, BATCH_SIZE, GRACE_PERIOD);
+    }
+
+    @Test
+    void testMigrateLegacyFiles_MovesBatchToStorage() throws IOException {
+        File first = File.builder().id(1L).fileName("a.txt").fileSize(4L).build();
+        File second = File.builder().id(2L).fileName("b.txt").fileSize(4L).build();
+        when(fileRepository.findFilesStoredInDatabase(BATCH_SIZE)).thenReturn(List.of(first, second));
+        when(fileRepository.readFileData(anyLong(), eq(0L), eq(4))).thenReturn("test".getBytes());
+        when(fileStorage.store(any(InputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return CONTENT_HASH;
+        });
+
+        int moved = migrationService.migrateLegacyFiles();
+
+        assertEquals(2, moved);
+        verify(fileRepository).markFileDataMoved(1L, CONTENT_HASH);
+        verify(fileRepository).markFileDataMoved(2L, CONTENT_HASH);
+    }
+
+    @Test
+    void testMigrateLegacyFiles_SkipsFailedFile() throws IOException {
+        File file = File.builder().id(1L).fileName("a.txt").fileSize(4L).build();
+        when(fileRepository.findFilesStoredInDatabase(BATCH_SIZE)).thenReturn(List.of(file));
+        when(fileStorage.store(any(InputStream.class))).thenThrow(new IOException("disk full"));
+
+        int moved = migrationService.migrateLegacyFiles();
+
+        assertEquals(0, moved);
+        verify(fileRepository, never()).markFileDataMoved(any(), any());
+    }
+
+    @Test
+    void testMigrateLegacyFiles_NothingToMove() throws IOException {
+        when(fileRepository.findFilesStoredInDatabase(BATCH_SIZE)).thenReturn(Collections.emptyList());
+
+        assertEquals(0, migrationService.migrateLegacyFiles());
+        verify(fileStorage, never()).store(any());
+    }
+
+    @Test
+    void testDeleteOrphanedContent_DeletesUnreferencedContentInBatches() throws IOException {
+        String referenced = "a".repeat(64);
+        String orphaned = "b".repeat(64);
+        when(fileStorage.findContentStoredBefore(any(Instant.class))).thenReturn(List.of(referenced, orphaned, CONTENT_HASH));
+        when(fileRepository.findExistingContentHashes(List.of(referenced, orphaned))).thenReturn(Set.of(referenced));
+        when(fileRepository.findExistingContentHashes(List.of(CONTENT_HASH))).thenReturn(Set.of(CONTENT_HASH));
+
+        int deleted = migrationService.deleteOrphanedContent();
+
+        assertEquals(1, deleted);
+        verify(fileStorage).delete(orphaned);
+        verify(fileStorage, never()).delete(referenced);
+        verify(fileStorage, never()).delete(CONTENT_HASH);
+    }
+}
@@ -1,16 +1,24 @@
 package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.homework.GetHomeworkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.HomeworkMarkDTO;
+import edu.sombra.coursemanagementsystem.dto.homework.MarkChangeDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.CourseGradeAggregate;
 import edu.sombra.coursemanagementsystem.entity.Homework;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.mapper.HomeworkMapper;
+import edu.sombra.coursemanagementsystem.repository.CourseGradeAggregateRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
+import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.HomeworkRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.HomeworkServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,11 +32,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,11 +65,16 @@ class HomeworkServiceImplTest {
     private UserRepository userRepository;
     @Mock
     private CourseRepository courseRepository;
+    @Mock
+    private CourseGradeAggregateRepository courseGradeAggregateRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        homeworkService = new HomeworkServiceImpl(homeworkRepository, courseMarkService, lessonRepository, enrollmentService, homeworkMapper, userRepository, courseRepository);
+        homeworkService = new HomeworkServiceImpl(homeworkRepository, courseMarkService, lessonRepository, enrollmentService, homeworkMapper, userRepository, courseRepository, courseGradeAggregateRepository,
+                new AuthorizationContext(userRepository, new EnrollmentCache(enrollmentRepository, 100, 60000)));
     }
 
     private static Stream<Arguments> provideTestDataForSetMark() {
@@ -156,14 +172,17 @@ class HomeworkServiceImplTest {
     @MethodSource("provideTestDataForSetMarkSuccessfully")
     void testSetMarkSuccessfully(Long userId, Long homeworkId, Long mark, Homework homeworkWithOtherMarks, GetHomeworkDTO homeworkDTO) {
         when(enrollmentService.isUserAssignedToCourse(userId, homeworkId)).thenReturn(true);
-        when(lessonRepository.findLessonByHomeworkId(homeworkId)).thenReturn(Optional.ofNullable(Lesson.builder()
-                .id(1L)
-                .course(Course.builder()
-                        .id(4L)
-                        .build())
+        when(homeworkRepository.setMark(homeworkId, mark)).thenReturn(Optional.of(MarkChangeDTO.builder()
+                .homeworkId(homeworkId)
+                .userId(userId)
+                .courseId(4L)
+                .mark(mark)
                 .build()));
-        when(homeworkRepository.calculateAverageHomeworksMarkByUserId(userId, 4L)).thenReturn(90.0);
-        when(homeworkRepository.findHomeworksByCourse(4L)).thenReturn(List.of(homeworkWithOtherMarks));
+        when(courseGradeAggregateRepository.applyDelta(userId, 4L, mark, 1L, -1L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(180L)
+                .gradedCount(2L)
+                .ungradedCount(0L)
+                .build());
         when(homeworkRepository.findById(homeworkId)).thenReturn(Optional.of(homeworkWithOtherMarks));
         when(homeworkMapper.mapToDTO(homeworkWithOtherMarks)).thenReturn(homeworkDTO);
 
@@ -176,6 +195,139 @@ class HomeworkServiceImplTest {
         verify(courseMarkService).saveTotalMark(userId, 4L, 90.0, true);
     }
 
+    @Test
+    void testSetMarkRegradeAppliesOnlyTheDifference() {
+        Long userId = 1L;
+        Long homeworkId = 2L;
+        Homework homework = Homework.builder()
+                .id(homeworkId)
+                .mark(90L)
+                .build();
+        GetHomeworkDTO homeworkDTO = GetHomeworkDTO.builder()
+                .id(homeworkId)
+                .mark(90L)
+                .build();
+
+        when(enrollmentService.isUserAssignedToCourse(userId, homeworkId)).thenReturn(true);
+        when(homeworkRepository.setMark(homeworkId, 90L)).thenReturn(Optional.of(MarkChangeDTO.builder()
+                .homeworkId(homeworkId)
+                .userId(userId)
+                .courseId(4L)
+                .previousMark(70L)
+                .mark(90L)
+                .build()));
+        when(courseGradeAggregateRepository.applyDelta(userId, 4L, 20L, 0L, 0L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(150L)
+                .gradedCount(2L)
+                .ungradedCount(1L)
+                .build());
+        when(homeworkRepository.findById(homeworkId)).thenReturn(Optional.of(homework));
+        when(homeworkMapper.mapToDTO(homework)).thenReturn(homeworkDTO);
+
+        homeworkService.setMark(userId, homeworkId, 90L);
+
+        verify(courseMarkService).saveTotalMark(userId, 4L, 75.0, false);
+        verify(homeworkRepository, never()).findHomeworksByCourse(any());
+    }
+
+    @Test
+    void testSetMarkWhenHomeworkNotFound() {
+        when(enrollmentService.isUserAssignedToCourse(1L, 2L)).thenReturn(true);
+        when(homeworkRepository.setMark(2L, 90L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> homeworkService.setMark(1L, 2L, 90L));
+        verifyNoInteractions(courseGradeAggregateRepository, courseMarkService);
+    }
+
+    @Test
+    void testSetMarksUpdatesEachUserCourseAggregateOnce() {
+        User instructor = User.builder().id(3L).email("instructor@gmail.com").role(RoleEnum.INSTRUCTOR).build();
+        List<HomeworkMarkDTO> marks = List.of(
+                HomeworkMarkDTO.builder().homeworkId(10L).mark(80L).build(),
+                HomeworkMarkDTO.builder().homeworkId(11L).mark(60L).build(),
+                HomeworkMarkDTO.builder().homeworkId(12L).mark(100L).build());
+        Map<Long, Long> marksByHomeworkId = Map.of(10L, 80L, 11L, 60L, 12L, 100L);
+        List<Homework> homeworks = List.of(Homework.builder().id(10L).build(), Homework.builder().id(11L).build(),
+                Homework.builder().id(12L).build());
+        List<GetHomeworkDTO> homeworkDTOs = List.of(GetHomeworkDTO.builder().id(10L).build(),
+                GetHomeworkDTO.builder().id(11L).build(), GetHomeworkDTO.builder().id(12L).build());
+
+        when(userRepository.findUserByEmail(instructor.getEmail())).thenReturn(instructor);
+        when(homeworkRepository.findCourseIdsByHomeworkIds(marksByHomeworkId.keySet())).thenReturn(Map.of(10L, 1L, 11L, 1L, 12L, 2L));
+        when(enrollmentRepository.findCourseIdsByUserId(3L)).thenReturn(Set.of(1L, 2L));
+        when(homeworkRepository.setMarks(marksByHomeworkId)).thenReturn(List.of(
+                MarkChangeDTO.builder().homeworkId(10L).userId(4L).courseId(1L).mark(80L).build(),
+                MarkChangeDTO.builder().homeworkId(11L).userId(4L).courseId(1L).previousMark(50L).mark(60L).build(),
+                MarkChangeDTO.builder().homeworkId(12L).userId(5L).courseId(2L).mark(100L).build()));
+        when(courseGradeAggregateRepository.applyDelta(4L, 1L, 90L, 1L, -1L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(140L)
+                .gradedCount(2L)
+                .ungradedCount(0L)
+                .build());
+        when(courseGradeAggregateRepository.applyDelta(5L, 2L, 100L, 1L, -1L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(100L)
+                .gradedCount(1L)
+                .ungradedCount(1L)
+                .build());
+        when(homeworkRepository.findAllByIds(marksByHomeworkId.keySet())).thenReturn(homeworks);
+        when(homeworkMapper.mapToDTO(homeworks)).thenReturn(homeworkDTOs);
+
+        List<GetHomeworkDTO> result = homeworkService.setMarks(marks, instructor.getEmail());
+
+        assertEquals(homeworkDTOs, result);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(3L);
+        verify(courseGradeAggregateRepository, times(2)).applyDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(courseMarkService).saveTotalMark(4L, 1L, 70.0, true);
+        verify(courseMarkService).saveTotalMark(5L, 2L, 100.0, false);
+        verify(homeworkRepository, never()).setMark(any(), any());
+    }
+
+    @Test
+    void testSetMarksWhenInstructorIsNotAssignedToCourse() {
+        User instructor = User.builder().id(3L).email("instructor@gmail.com").role(RoleEnum.INSTRUCTOR).build();
+        List<HomeworkMarkDTO> marks = List.of(HomeworkMarkDTO.builder().homeworkId(10L).mark(80L).build());
+
+        when(userRepository.findUserByEmail(instructor.getEmail())).thenReturn(instructor);
+        when(homeworkRepository.findCourseIdsByHomeworkIds(Set.of(10L))).thenReturn(Map.of(10L, 1L));
+        when(enrollmentRepository.findCourseIdsByUserId(3L)).thenReturn(Set.of(2L));
+
+        assertThrows(AccessDeniedException.class, () -> homeworkService.setMarks(marks, instructor.getEmail()));
+        verify(homeworkRepository, never()).setMarks(any());
+        verifyNoInteractions(courseGradeAggregateRepository, courseMarkService);
+    }
+
+    @Test
+    void testSetMarksWhenHomeworkNotFound() {
+        User admin = User.builder().id(1L).email("admin@gmail.com").role(RoleEnum.ADMIN).build();
+        List<HomeworkMarkDTO> marks = List.of(HomeworkMarkDTO.builder().homeworkId(10L).mark(80L).build(),
+                HomeworkMarkDTO.builder().homeworkId(999L).mark(80L).build());
+
+        when(userRepository.findUserByEmail(admin.getEmail())).thenReturn(admin);
+        when(homeworkRepository.findCourseIdsByHomeworkIds(Set.of(10L, 999L))).thenReturn(Map.of(10L, 1L));
+
+        assertThrows(EntityNotFoundException.class, () -> homeworkService.setMarks(marks, admin.getEmail()));
+        verify(homeworkRepository, never()).setMarks(any());
+    }
+
+    private static Stream<Arguments> provideInvalidBulkMarks() {
+        return Stream.of(
+                Arguments.of(List.of()),
+                Arguments.of(List.of(HomeworkMarkDTO.builder().homeworkId(10L).mark(101L).build())),
+                Arguments.of(List.of(HomeworkMarkDTO.builder().homeworkId(10L).build())),
+                Arguments.of(List.of(HomeworkMarkDTO.builder().mark(50L).build())),
+                Arguments.of(List.of(HomeworkMarkDTO.builder().homeworkId(10L).mark(50L).build(),
+                        HomeworkMarkDTO.builder().homeworkId(10L).mark(60L).build()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidBulkMarks")
+    void testSetMarksWithInvalidInput(List<HomeworkMarkDTO> marks) {
+        assertThrows(IllegalArgumentException.class, () -> homeworkService.setMarks(marks, "admin@gmail.com"));
+        verifyNoInteractions(userRepository, courseGradeAggregateRepository, courseMarkService);
+        verify(homeworkRepository, never()).setMarks(any());
+    }
+
     @ParameterizedTest
     @MethodSource("provideTestDataForIsUserUploadedHomework")
     void testIsUserUploadedThisHomeworkWhenUploaded(Long fileId, Long studentId, boolean isUploaded) {
@@ -233,7 +385,7 @@ class HomeworkServiceImplTest {
                 .build();
         when(userRepository.findUserByEmail("email@gmail.com")).thenReturn(user);
         when(courseRepository.findCourseByHomeworkId(homeworkId)).thenReturn(Optional.ofNullable(Course.builder().id(courseId).build()));  // Correct the courseId here
-        when(courseRepository.isUserAssignedToCourse(user.getId(), courseId)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of(courseId));
         when(homeworkRepository.findById(homeworkId)).thenReturn(Optional.ofNullable(homework));
         when(homeworkMapper.mapToDTO(homework)).thenReturn(homeworkDTO);
 
@@ -280,9 +432,68 @@ class HomeworkServiceImplTest {
                         .build())
                 .build();
         when(homeworkRepository.findById(homeworkId)).thenReturn(Optional.of(homework));
+        when(courseGradeAggregateRepository.applyDelta(1L, 4L, -95L, -1L, 0L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(80L)
+                .gradedCount(1L)
+                .ungradedCount(0L)
+                .build());
         assertDoesNotThrow(() ->homeworkService.deleteHomework(homeworkId));
 
         verify(homeworkRepository, times(1)).delete(homework);
+        verify(courseMarkService, times(1)).saveTotalMark(1L, 4L, 80.0, true);
+    }
+
+    @Test
+    void testDeleteLastUngradedHomeworkPassesCourse() {
+        Homework homework = Homework.builder()
+                .id(2L)
+                .lesson(Lesson.builder()
+                        .id(1L)
+                        .course(Course.builder()
+                                .id(4L)
+                                .build())
+                        .build())
+                .user(User.builder()
+                        .id(1L)
+                        .build())
+                .build();
+        when(homeworkRepository.findById(2L)).thenReturn(Optional.of(homework));
+        when(courseGradeAggregateRepository.applyDelta(1L, 4L, 0L, 0L, -1L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(170L)
+                .gradedCount(2L)
+                .ungradedCount(0L)
+                .build());
+
+        homeworkService.deleteHomework(2L);
+
+        verify(courseMarkService, times(1)).saveTotalMark(1L, 4L, 85.0, true);
+    }
+
+    @Test
+    void testDeleteHomeworkKeepsCourseNotPassedWhileHomeworkIsUngraded() {
+        Homework homework = Homework.builder()
+                .id(2L)
+                .mark(60L)
+                .lesson(Lesson.builder()
+                        .id(1L)
+                        .course(Course.builder()
+                                .id(4L)
+                                .build())
+                        .build())
+                .user(User.builder()
+                        .id(1L)
+                        .build())
+                .build();
+        when(homeworkRepository.findById(2L)).thenReturn(Optional.of(homework));
+        when(courseGradeAggregateRepository.applyDelta(1L, 4L, -60L, -1L, 0L)).thenReturn(CourseGradeAggregate.builder()
+                .markSum(90L)
+                .gradedCount(1L)
+                .ungradedCount(1L)
+                .build());
+
+        homeworkService.deleteHomework(2L);
+
+        verify(courseMarkService, times(1)).saveTotalMark(1L, 4L, 90.0, false);
     }
 
     @Test
@@ -315,14 +526,14 @@ class HomeworkServiceImplTest {
         );
 
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
-        when(homeworkRepository.findAll()).thenReturn(mockHomeworkList);
+        when(homeworkRepository.findAllAfter(null, 101)).thenReturn(mockHomeworkList);
         when(homeworkMapper.mapToDTO(mockHomeworkList)).thenReturn(mockDTOList);
 
-        List<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com");
+        CursorPage<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com", null, 100);
 
         assertNotNull(result);
-        assertEquals(mockDTOList, result);
-        verify(homeworkRepository, times(1)).findAll();
+        assertEquals(mockDTOList, result.getItems());
+        verify(homeworkRepository, times(1)).findAllAfter(null, 101);
     }
 
     @Test
@@ -347,10 +558,11 @@ class HomeworkServiceImplTest {
         when(homeworkRepository.findAllHomeworksWithInstructorAccess(user.getId())).thenReturn(mockHomeworkList);
         when(homeworkMapper.mapToDTO(mockHomeworkList)).thenReturn(mockDTOList);
 
-        List<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com");
+        CursorPage<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com", null, 100);
 
         assertNotNull(result);
-        assertEquals(mockDTOList, result);
+        assertEquals(mockDTOList, result.getItems());
+        assertNull(result.getNextCursor());
         verify(homeworkRepository, times(1)).findAllHomeworksWithInstructorAccess(user.getId());
     }
 
@@ -376,10 +588,11 @@ class HomeworkServiceImplTest {
         when(homeworkRepository.findAllByUser(user.getId())).thenReturn(mockHomeworkList);
         when(homeworkMapper.mapToDTO(mockHomeworkList)).thenReturn(mockDTOList);
 
-        List<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com");
+        CursorPage<GetHomeworkDTO> result = homeworkService.getAllHomeworks("user@email.com", null, 100);
 
         assertNotNull(result);
-        assertEquals(mockDTOList, result);
+        assertEquals(mockDTOList, result.getItems());
+        assertNull(result.getNextCursor());
         verify(homeworkRepository, times(1)).findAllByUser(user.getId());
     }
 
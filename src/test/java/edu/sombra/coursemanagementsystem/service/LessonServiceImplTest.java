@@ -2,8 +2,10 @@ package edu.sombra.coursemanagementsystem.service;
 
 import edu.sombra.coursemanagementsystem.dto.course.CourseResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.CreateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.lesson.LessonCourseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.LessonResponseDTO;
 import edu.sombra.coursemanagementsystem.dto.lesson.UpdateLessonDTO;
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.entity.Course;
 import edu.sombra.coursemanagementsystem.entity.Lesson;
 import edu.sombra.coursemanagementsystem.entity.User;
@@ -12,10 +14,13 @@ import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.LessonException;
 import edu.sombra.coursemanagementsystem.mapper.CourseMapper;
 import edu.sombra.coursemanagementsystem.mapper.LessonMapper;
+import edu.sombra.coursemanagementsystem.repository.CourseGradeAggregateRepository;
 import edu.sombra.coursemanagementsystem.repository.CourseRepository;
 import edu.sombra.coursemanagementsystem.repository.EnrollmentRepository;
 import edu.sombra.coursemanagementsystem.repository.LessonRepository;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.context.AuthorizationContext;
+import edu.sombra.coursemanagementsystem.security.context.EnrollmentCache;
 import edu.sombra.coursemanagementsystem.service.impl.LessonServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -36,6 +42,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -68,10 +75,15 @@ class LessonServiceImplTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    CourseGradeAggregateRepository courseGradeAggregateRepository;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        lessonService = new LessonServiceImpl(lessonRepository, courseRepository, userRepository, enrollmentRepository, lessonMapper, courseMapper);
+        lessonService = new LessonServiceImpl(lessonRepository, courseRepository, courseGradeAggregateRepository, lessonMapper, courseMapper,
+                new AuthorizationContext(userRepository, new EnrollmentCache(enrollmentRepository, 100, 60000)),
+                new ConcurrentMapCacheManager());
     }
 
     private static Stream<Arguments> provideTestDataForSaveLesson() {
@@ -191,9 +203,10 @@ class LessonServiceImplTest {
         LessonResponseDTO expectedResponseLessonDTO = mock(LessonResponseDTO.class);
         CourseResponseDTO expectedResponseCourseDTO = mock(CourseResponseDTO.class);
 
+        when(expectedLesson.getCourse()).thenReturn(Course.builder().id(5L).build());
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
         when(lessonRepository.findById(id)).thenReturn(Optional.of(expectedLesson));
-        when(enrollmentRepository.isUserAssignedToCourse(expectedLesson.getCourse(), user)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of(5L));
         when(courseMapper.mapToResponseDTO(expectedLesson.getCourse())).thenReturn(expectedResponseCourseDTO);
 
         when(lessonMapper.mapToResponseDTO(expectedLesson, expectedResponseCourseDTO)).thenReturn(expectedResponseLessonDTO);
@@ -201,7 +214,7 @@ class LessonServiceImplTest {
         LessonResponseDTO result = lessonService.findById(id, userEmail);
 
         assertEquals(expectedResponseLessonDTO, result);
-        verify(enrollmentRepository, times(1)).isUserAssignedToCourse(expectedLesson.getCourse(), user);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(user.getId());
     }
 
     @Test
@@ -215,15 +228,40 @@ class LessonServiceImplTest {
 
         Lesson expectedLesson = mock(Lesson.class);
 
+        when(expectedLesson.getCourse()).thenReturn(Course.builder().id(5L).build());
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
         when(lessonRepository.findById(id)).thenReturn(Optional.of(expectedLesson));
-        when(enrollmentRepository.isUserAssignedToCourse(expectedLesson.getCourse(), user)).thenReturn(false);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of());
 
         assertThrows(IllegalArgumentException.class, () -> lessonService.findById(id, userEmail));
         verify(lessonRepository, times(1)).findById(id);
         verify(courseMapper, never()).mapToResponseDTO(any());
     }
 
+    @Test
+    void testFindLessonByIdServesCachedLessonAndStillChecksAccess() {
+        Long id = 1L;
+        User student = User.builder().id(1L).email("student@email.com").role(RoleEnum.STUDENT).build();
+        User otherStudent = User.builder().id(2L).email("other@email.com").role(RoleEnum.STUDENT).build();
+        Course course = Course.builder().id(5L).build();
+        Lesson lesson = Lesson.builder().id(id).name("Lesson 1").course(course).build();
+        CourseResponseDTO courseResponse = CourseResponseDTO.builder().courseId(5L).build();
+        LessonResponseDTO lessonResponse = LessonResponseDTO.builder().id(id).name("Lesson 1").course(courseResponse).build();
+
+        when(userRepository.findUserByEmail(student.getEmail())).thenReturn(student);
+        when(userRepository.findUserByEmail(otherStudent.getEmail())).thenReturn(otherStudent);
+        when(lessonRepository.findById(id)).thenReturn(Optional.of(lesson));
+        when(enrollmentRepository.findCourseIdsByUserId(student.getId())).thenReturn(Set.of(5L));
+        when(enrollmentRepository.findCourseIdsByUserId(otherStudent.getId())).thenReturn(Set.of());
+        when(courseMapper.mapToResponseDTO(course)).thenReturn(courseResponse);
+        when(lessonMapper.mapToResponseDTO(lesson, courseResponse)).thenReturn(lessonResponse);
+
+        assertEquals(lessonResponse, lessonService.findById(id, student.getEmail()));
+        assertEquals(lessonResponse, lessonService.findById(id, student.getEmail()));
+        assertThrows(IllegalArgumentException.class, () -> lessonService.findById(id, otherStudent.getEmail()));
+        verify(lessonRepository, times(1)).findById(id);
+    }
+
     @Test
     void testFindLessonById_NonExistingLesson_ThrowsEntityNotFoundException() {
         Long id = 2L;
@@ -241,20 +279,21 @@ class LessonServiceImplTest {
 
         when(userRepository.findUserByEmail(user.getEmail())).thenReturn(user);
 
-        when(lessonRepository.findAll()).thenReturn(new ArrayList<>());
+        when(lessonRepository.findLessonCoursesAfter(null, 101)).thenReturn(new ArrayList<>());
 
-        when(lessonMapper.mapToResponsesDTO(any(), any())).thenReturn(new ArrayList<>());
+        when(lessonMapper.mapToResponsesDTO(any())).thenReturn(new ArrayList<>());
 
-        List<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail());
+        CursorPage<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail(), null, 100);
 
         assertNotNull(lessons);
-        assertTrue(lessons.isEmpty());
+        assertTrue(lessons.getItems().isEmpty());
+        assertNull(lessons.getNextCursor());
 
-        verify(lessonRepository, times(1)).findAll();
+        verify(lessonRepository, times(1)).findLessonCoursesAfter(null, 101);
 
         verify(courseMapper, never()).mapToResponseDTO(any());
 
-        verify(lessonMapper, times(1)).mapToResponsesDTO(eq(new ArrayList<>()), eq(new ArrayList<>()));
+        verify(lessonMapper, times(1)).mapToResponsesDTO(eq(new ArrayList<>()));
     }
 
     @Test
@@ -266,18 +305,17 @@ class LessonServiceImplTest {
 
         when(userRepository.findUserByEmail(user.getEmail())).thenReturn(user);
 
-        List<Lesson> lessonList = Arrays.asList(mock(Lesson.class), mock(Lesson.class));
-        List<CourseResponseDTO> courseResponseDTOList = Arrays.asList(null, null);
+        List<LessonCourseDTO> lessonList = Arrays.asList(mock(LessonCourseDTO.class), mock(LessonCourseDTO.class));
 
-        when(lessonMapper.mapToResponsesDTO(eq(lessonList), eq(courseResponseDTOList)))
+        when(lessonMapper.mapToResponsesDTO(eq(lessonList)))
                 .thenReturn(Arrays.asList(mock(LessonResponseDTO.class), mock(LessonResponseDTO.class)));
 
-        when(lessonRepository.findAll()).thenReturn(lessonList);
+        when(lessonRepository.findLessonCoursesAfter(null, 101)).thenReturn(lessonList);
 
-        List<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail());
+        CursorPage<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail(), null, 100);
 
         assertNotNull(lessons);
-        assertEquals(2, lessons.size());
+        assertEquals(2, lessons.getItems().size());
     }
 
     @Test
@@ -289,18 +327,17 @@ class LessonServiceImplTest {
 
         when(userRepository.findUserByEmail(user.getEmail())).thenReturn(user);
 
-        List<Lesson> lessonList = Arrays.asList(mock(Lesson.class), mock(Lesson.class));
-        List<CourseResponseDTO> courseResponseDTOList = Arrays.asList(null, null);
+        List<LessonCourseDTO> lessonList = Arrays.asList(mock(LessonCourseDTO.class), mock(LessonCourseDTO.class));
 
-        when(lessonMapper.mapToResponsesDTO(eq(lessonList), eq(courseResponseDTOList)))
+        when(lessonMapper.mapToResponsesDTO(eq(lessonList)))
                 .thenReturn(Arrays.asList(mock(LessonResponseDTO.class), mock(LessonResponseDTO.class)));
 
-        when(lessonRepository.findAllLessonsByUserId(user.getId())).thenReturn(lessonList);
+        when(lessonRepository.findLessonCoursesByUserId(user.getId())).thenReturn(lessonList);
 
-        List<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail());
+        CursorPage<LessonResponseDTO> lessons = lessonService.findAllLessons(user.getEmail(), null, 100);
 
         assertNotNull(lessons);
-        assertEquals(2, lessons.size());
+        assertEquals(2, lessons.getItems().size());
     }
 
 
@@ -320,7 +357,7 @@ class LessonServiceImplTest {
 
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
         when(courseRepository.findById(courseId)).thenReturn(java.util.Optional.of(course));
-        when(enrollmentRepository.isUserAssignedToCourse(course, user)).thenReturn(true);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of(courseId));
         when(lessonService.findAllLessonsByCourse(courseId)).thenReturn(expectedResponses);
 
         List<LessonResponseDTO> result = lessonService.findAllLessonsByCourse(courseId, userEmail);
@@ -329,7 +366,7 @@ class LessonServiceImplTest {
 
         verify(userRepository, times(1)).findUserByEmail(userEmail);
         verify(courseRepository, times(1)).findById(courseId);
-        verify(enrollmentRepository, times(1)).isUserAssignedToCourse(course, user);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(user.getId());
     }
 
     @Test
@@ -347,35 +384,33 @@ class LessonServiceImplTest {
 
         when(userRepository.findUserByEmail(userEmail)).thenReturn(user);
         when(courseRepository.findById(courseId)).thenReturn(java.util.Optional.of(course));
-        when(enrollmentRepository.isUserAssignedToCourse(course, user)).thenReturn(false);
+        when(enrollmentRepository.findCourseIdsByUserId(user.getId())).thenReturn(Set.of());
 
         assertThrows(IllegalArgumentException.class, () -> lessonService.findAllLessonsByCourse(courseId, userEmail));
 
         verify(userRepository, times(1)).findUserByEmail(userEmail);
         verify(courseRepository, times(1)).findById(courseId);
-        verify(enrollmentRepository, times(1)).isUserAssignedToCourse(course, user);
+        verify(enrollmentRepository, times(1)).findCourseIdsByUserId(user.getId());
     }
     @Test
     void testFindAllLessonsByCourseIdSuccess() {
-        List<Lesson> lessonList = Arrays.asList(mock(Lesson.class), mock(Lesson.class));
+        List<LessonCourseDTO> lessonList = Arrays.asList(mock(LessonCourseDTO.class), mock(LessonCourseDTO.class));
 
-        when(lessonMapper.mapToResponsesDTO(
-                eq(lessonList),
-                anyList()
-        )).thenReturn(new ArrayList<>());
+        when(lessonMapper.mapToResponsesDTO(eq(lessonList))).thenReturn(new ArrayList<>());
 
-        when(lessonRepository.findAllByCourseId(1L)).thenReturn(lessonList);
+        when(lessonRepository.findLessonCoursesByCourseId(1L)).thenReturn(lessonList);
 
         List<LessonResponseDTO> lessons = lessonService.findAllLessonsByCourse(1L);
 
         assertNotNull(lessons);
         assertEquals(0, lessons.size());
-        verify(lessonRepository, times(1)).findAllByCourseId(1L);
+        verify(lessonRepository, times(1)).findLessonCoursesByCourseId(1L);
+        verify(courseMapper, never()).mapToResponseDTO(any());
     }
 
     @Test
     void testFindAllLessonsByCourseIdReturnsEmptyList() {
-        when(lessonRepository.findAllByCourseId(1L)).thenReturn(Collections.emptyList());
+        when(lessonRepository.findLessonCoursesByCourseId(1L)).thenReturn(Collections.emptyList());
 
         List<LessonResponseDTO> lessons = lessonService.findAllLessonsByCourse(1L);
 
@@ -425,6 +460,7 @@ class LessonServiceImplTest {
         lessonService.deleteLesson(lessonId);
 
         verify(lessonRepository, times(1)).delete(lesson);
+        verify(courseGradeAggregateRepository, times(1)).subtractLessonHomeworks(lesson.getId());
     }
 
 
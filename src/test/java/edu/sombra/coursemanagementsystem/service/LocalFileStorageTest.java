@@ -0,0 +1,96 @@
+package edu.sombra.coursemanagementsystem.service;
+
+import edu.sombra.coursemanagementsystem.service.impl.LocalFileStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileStorageTest {
+    private static final String CONTENT = "test";
+    private static final String CONTENT_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @TempDir
+    Path rootDirectory;
+
+    private FileStorage fileStorage;
+
+    @BeforeEach
+    void setUp() {
+        fileStorage = new LocalFileStorage(rootDirectory.toString());
+    }
+
+    @Test
+    void testStore_ReturnsSha256AndShardsDirectories() throws IOException {
+        String contentHash = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+
+        assertEquals(CONTENT_HASH, contentHash);
+        assertTrue(Files.exists(rootDirectory.resolve("9f").resolve("86").resolve(CONTENT_HASH)));
+        assertTrue(fileStorage.exists(contentHash));
+    }
+
+    @Test
+    void testFindContentStoredBefore_SkipsRecentlyStoredContent() throws IOException {
+        String contentHash = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+        Path contentPath = rootDirectory.resolve("9f").resolve("86").resolve(contentHash);
+        Files.setLastModifiedTime(contentPath, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        Instant cutoff = Instant.now().minus(1, ChronoUnit.HOURS);
+
+        assertEquals(List.of(contentHash), fileStorage.findContentStoredBefore(cutoff));
+
+        fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+
+        assertTrue(fileStorage.findContentStoredBefore(cutoff).isEmpty());
+    }
+
+    @Test
+    void testStore_DeduplicatesIdenticalContent() throws IOException {
+        String first = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+        String second = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+
+        assertEquals(first, second);
+        try (Stream<Path> files = Files.walk(rootDirectory)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testLoad_ReadsStoredContent() throws IOException {
+        String contentHash = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+
+        Resource resource = fileStorage.load(contentHash, "test.txt");
+
+        assertEquals("test.txt", resource.getFilename());
+        assertEquals(CONTENT.length(), resource.contentLength());
+        try (InputStream inputStream = resource.getInputStream()) {
+            assertArrayEquals(CONTENT.getBytes(), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testDelete_RemovesStoredContent() throws IOException {
+        String contentHash = fileStorage.store(new ByteArrayInputStream(CONTENT.getBytes()));
+
+        fileStorage.delete(contentHash);
+
+        assertFalse(fileStorage.exists(contentHash));
+    }
+
+    @Test
+    void testLoad_RejectsInvalidHash() {
+        assertThrows(IllegalArgumentException.class, () -> fileStorage.load("../../etc/passwd", "passwd"));
+    }
+}
@@ -1,5 +1,6 @@
 package edu.sombra.coursemanagementsystem.service;
 
+import edu.sombra.coursemanagementsystem.dto.page.CursorPage;
 import edu.sombra.coursemanagementsystem.dto.user.CreateUserDTO;
 import edu.sombra.coursemanagementsystem.dto.user.ResetPasswordDTO;
 import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
@@ -8,13 +9,17 @@ import edu.sombra.coursemanagementsystem.dto.user.UserResponseDTO;
 import edu.sombra.coursemanagementsystem.entity.User;
 import edu.sombra.coursemanagementsystem.enums.RoleEnum;
 import edu.sombra.coursemanagementsystem.exception.EntityDeletionException;
+import edu.sombra.coursemanagementsystem.exception.PasswordHashingRejectedException;
+import edu.sombra.coursemanagementsystem.exception.UserAlreadyExistsException;
 import edu.sombra.coursemanagementsystem.exception.UserCreationException;
 import edu.sombra.coursemanagementsystem.exception.UserException;
 import edu.sombra.coursemanagementsystem.mapper.UserMapper;
 import edu.sombra.coursemanagementsystem.repository.UserRepository;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import edu.sombra.coursemanagementsystem.service.impl.UserServiceImpl;
 import edu.sombra.coursemanagementsystem.util.BaseUtil;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,9 +30,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -46,10 +53,12 @@ class UserServiceImplTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder, userMapper);
+        userService = new UserServiceImpl(userRepository, passwordEncoder, userMapper, tokenVersionCache);
     }
 
     private static Stream<Arguments> provideTestDataForAssignNewRoleUpdateFailed() {
@@ -193,6 +202,7 @@ class UserServiceImplTest {
 
         assertNotNull(assignedRoleResponse);
         verify(userRepository, times(1)).updateRoleByEmail(userDTO.getEmail(), userDTO.getRole());
+        verify(tokenVersionCache, times(1)).increment(mockUser.getId());
     }
 
     @Test
@@ -292,14 +302,14 @@ class UserServiceImplTest {
         when(userMapper.fromDTO(userDTO)).thenReturn(user);
         when(passwordEncoder.encode(userDTO.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(user)).thenReturn(user);
-        when(userRepository.findUserByEmail(user.getEmail())).thenReturn(user);
         when(userMapper.mapToResponseDTO(user)).thenReturn(userResponseDTO);
         UserResponseDTO createdUser = userService.createUser(userDTO);
 
         assertNotNull(createdUser);
         assertEquals(userResponseDTO, createdUser);
         verify(userRepository, times(1)).save(user);
-        verify(userRepository, times(1)).findUserByEmail(user.getEmail());
+        verify(userRepository, times(1)).flush();
+        verify(userRepository, never()).findUserByEmail(anyString());
     }
 
     @ParameterizedTest
@@ -370,6 +380,32 @@ class UserServiceImplTest {
         assertEquals("Failed to create user ", exception.getMessage());
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTestDataForCreateUserDTO")
+    void testCreateUserWithDuplicateEmail(CreateUserDTO userDTO) {
+        User user = User.builder().email(userDTO.getEmail()).build();
+        when(passwordEncoder.encode(userDTO.getPassword())).thenReturn("encodedPassword");
+        when(userMapper.fromDTO(userDTO)).thenReturn(user);
+        doThrow(new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), UserServiceImpl.UNIQUE_USERS_EMAIL)))
+                .when(userRepository).flush();
+
+        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(userDTO));
+
+        verify(userRepository, never()).findUserByEmail(anyString());
+        verify(userRepository, never()).existsUserByEmail(anyString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestDataForCreateUserDTO")
+    void testCreateUserWhenPasswordHashingIsSaturated(CreateUserDTO userDTO) {
+        when(passwordEncoder.encode(userDTO.getPassword())).thenThrow(new PasswordHashingRejectedException());
+
+        assertThrows(PasswordHashingRejectedException.class, () -> userService.createUser(userDTO));
+
+        verifyNoInteractions(userRepository);
+    }
+
     @ParameterizedTest
     @MethodSource("provideTestDataForUpdateUserSuccessfully")
     void testUpdateUserSuccessfully(User existingUser, UpdateUserDTO updateUser) {
@@ -384,6 +420,7 @@ class UserServiceImplTest {
         assertEquals(existingUser.getEmail(), updateUser.getEmail());
         assertEquals(existingUser.getId(), updateUser.getId());
         verify(userRepository, times(1)).update(existingUser);
+        verify(tokenVersionCache, times(1)).increment(existingUser.getId());
     }
 
     @ParameterizedTest
@@ -510,6 +547,7 @@ class UserServiceImplTest {
         userService.deleteUser(userId);
 
         verify(userRepository, times(1)).delete(existingUser);
+        verify(tokenVersionCache, times(1)).evict(userId);
     }
 
     @Test
@@ -542,14 +580,15 @@ class UserServiceImplTest {
 
         List<UserResponseDTO> expectedUserResponseDTOs = List.of(mock(UserResponseDTO.class), mock(UserResponseDTO.class));
 
-        when(userRepository.findAll()).thenReturn(expectedUsers);
+        when(userRepository.findAllAfter(null, 101)).thenReturn(expectedUsers);
         when(userMapper.mapToResponsesDTO(expectedUsers)).thenReturn(expectedUserResponseDTOs);
 
-        List<UserResponseDTO> actualUsers = userService.findAllUsers();
+        CursorPage<UserResponseDTO> actualUsers = userService.findAllUsers(null, 100);
 
-        assertEquals(expectedUsers.size(), actualUsers.size());
-        assertTrue(actualUsers.containsAll(expectedUserResponseDTOs));
-        verify(userRepository, times(1)).findAll();
+        assertEquals(expectedUsers.size(), actualUsers.getItems().size());
+        assertTrue(actualUsers.getItems().containsAll(expectedUserResponseDTOs));
+        assertNull(actualUsers.getNextCursor());
+        verify(userRepository, times(1)).findAllAfter(null, 101);
     }
 
     @Test
@@ -0,0 +1,98 @@
+package edu.sombra.coursemanagementsystem.service.auth;
+
+import edu.sombra.coursemanagementsystem.dto.auth.AuthenticationDTO;
+import edu.sombra.coursemanagementsystem.dto.auth.AuthenticationResponse;
+import edu.sombra.coursemanagementsystem.dto.auth.RegisterDTO;
+import edu.sombra.coursemanagementsystem.exception.UserAlreadyExistsException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "edu.sombra.coursemanagementsystem.service.auth.AuthenticationQueryCountTest$SqlCapture")
+@DirtiesContext
+class AuthenticationQueryCountTest {
+
+    @Autowired
+    private AuthenticateService authenticateService;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void testAuthenticateReadsUserOnceAndWritesOneToken() {
+        AuthenticationResponse response = authenticateService.authenticate(new AuthenticationDTO("admin@gmail.com", "adminPAss"));
+
+        assertNotNull(response.getAccessToken());
+        assertEquals(List.of("select from users", "update users", "insert into tokens"), SqlCapture.statements());
+    }
+
+    @Test
+    void testRegisterInsertsUserWithoutPreCheck() {
+        String email = "query-count-" + UUID.randomUUID() + "@example.com";
+
+        AuthenticationResponse response = authenticateService.register(registerDTO(email));
+
+        assertNotNull(response.getAccessToken());
+        assertEquals(List.of("insert into users", "insert into tokens"), SqlCapture.statements());
+    }
+
+    @Test
+    void testRegisterDuplicateEmailFailsOnUniqueConstraint() {
+        assertThrows(UserAlreadyExistsException.class, () -> authenticateService.register(registerDTO("student@gmail.com")));
+
+        assertEquals(List.of("insert into users"), SqlCapture.statements());
+    }
+
+    private static RegisterDTO registerDTO(String email) {
+        return new RegisterDTO("Query", "Count", email, "password");
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        static void clear() {
+            STATEMENTS.get().clear();
+        }
+
+        static List<String> statements() {
+            return STATEMENTS.get().stream()
+                    .map(sql -> sql.toLowerCase(Locale.ROOT))
+                    .filter(sql -> !sql.contains("nextval"))
+                    .map(SqlCapture::describe)
+                    .toList();
+        }
+
+        private static String describe(String sql) {
+            String table = sql.contains(" users") ? "users" : sql.contains(" tokens") ? "tokens" : "other";
+            if (sql.startsWith("select")) {
+                return "select from " + table;
+            } else if (sql.startsWith("update")) {
+                return "update " + table;
+            } else if (sql.startsWith("insert")) {
+                return "insert into " + table;
+            }
+            return sql;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+    }
+}
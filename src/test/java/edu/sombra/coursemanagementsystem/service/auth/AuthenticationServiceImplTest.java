@@ -13,6 +13,9 @@ import edu.sombra.coursemanagementsystem.exception.UserAlreadyExistsException;
 import edu.sombra.coursemanagementsystem.mapper.UserMapper;
 import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
 import edu.sombra.coursemanagementsystem.security.jwt.JwtService;
+import edu.sombra.coursemanagementsystem.security.jwt.ParsedToken;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenHash;
+import edu.sombra.coursemanagementsystem.security.jwt.TokenVersionCache;
 import edu.sombra.coursemanagementsystem.service.UserService;
 import edu.sombra.coursemanagementsystem.service.auth.impl.AuthenticateServiceImpl;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,6 +40,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -59,11 +64,13 @@ class AuthenticationServiceImplTest {
     private TokenRepository tokenRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        authenticateService = new AuthenticateServiceImpl(userService, userMapper, jwtService, authenticationManager, tokenRepository);
+        authenticateService = new AuthenticateServiceImpl(userService, userMapper, jwtService, authenticationManager, tokenRepository, tokenVersionCache);
     }
 
     private static Stream<Arguments> provideRegisterDTOs() {
@@ -158,8 +165,6 @@ class AuthenticationServiceImplTest {
     @ParameterizedTest
     @MethodSource("provideRegisterDTOs")
     void testRegister_SuccessfulRegistration(RegisterDTO registerDTO, String expectedJwtToken) {
-        when(userService.existsUserByEmail(registerDTO.getEmail())).thenReturn(false);
-
         User savedUser = new User();
         savedUser.setId(1L);
         savedUser.setFirstName(registerDTO.getFirstName());
@@ -177,13 +182,16 @@ class AuthenticationServiceImplTest {
 
         when(userMapper.mapToDTO(any(User.class))).thenReturn(createTestUserDTO());
         when(userService.createUser(any(CreateUserDTO.class))).thenReturn(userResponseDTO);
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn(expectedJwtToken);
+        when(userMapper.fromResponseDTO(userResponseDTO)).thenReturn(savedUser);
+        when(jwtService.generateToken(savedUser, TokenVersionCache.INITIAL_VERSION)).thenReturn(expectedJwtToken);
 
         AuthenticationResponse response = authenticateService.register(registerDTO);
 
         assertNotNull(response);
         assertEquals(expectedJwtToken, response.getAccessToken());
 
+        verify(userService, never()).existsUserByEmail(anyString());
+        verifyNoInteractions(tokenVersionCache);
         verify(tokenRepository, times(1)).save(any(Token.class));
     }
 
@@ -193,27 +201,28 @@ class AuthenticationServiceImplTest {
         RegisterDTO registerDTO = new RegisterDTO();
         registerDTO.setEmail(email);
 
-        when(userService.existsUserByEmail(registerDTO.getEmail())).thenReturn(true);
+        when(userService.createUser(any())).thenThrow(new UserAlreadyExistsException(email));
 
         assertThrows(UserAlreadyExistsException.class, () -> authenticateService.register(registerDTO));
 
-        verify(userService, never()).createUser(any(CreateUserDTO.class));
-        verify(jwtService, never()).generateToken(any(User.class));
+        verify(userService, never()).existsUserByEmail(anyString());
+        verify(jwtService, never()).generateToken(any(User.class), anyLong());
         verify(tokenRepository, never()).save(any(Token.class));
     }
 
     @ParameterizedTest
     @MethodSource("provideAuthenticationDTOs")
     void testAuthenticate_SuccessfulAuthentication(AuthenticationDTO authenticationDTO, String expectedAccessToken, String expectedRefreshToken) {
-        when(userService.findUserByEmail(authenticationDTO.getEmail())).thenReturn(createTestUserResponse());
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn(expectedAccessToken);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authenticated(createTestUser()));
+        when(jwtService.generateToken(any(User.class), anyLong())).thenReturn(expectedAccessToken);
         when(jwtService.generateRefreshToken(any(UserDetails.class))).thenReturn(expectedRefreshToken);
-        when(userMapper.fromResponseDTO(any(UserResponseDTO.class))).thenReturn(createTestUser());
         AuthenticationResponse response = authenticateService.authenticate(authenticationDTO);
 
         assertNotNull(response);
         assertEquals(expectedAccessToken, response.getAccessToken());
 
+        verifyNoInteractions(userService, userMapper);
         verify(tokenRepository, times(1)).save(any(Token.class));
     }
 
@@ -227,7 +236,7 @@ class AuthenticationServiceImplTest {
         assertThrows(BadCredentialsException.class, () -> authenticateService.authenticate(authenticationDTO));
 
         verify(userService, never()).findUserByEmail(anyString());
-        verify(jwtService, never()).generateToken(any(UserDetails.class));
+        verify(jwtService, never()).generateToken(any(User.class), anyLong());
         verify(jwtService, never()).generateRefreshToken(any(UserDetails.class));
         verify(tokenRepository, never()).save(any(Token.class));
     }
@@ -239,14 +248,15 @@ class AuthenticationServiceImplTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authorizationHeader);
-        when(jwtService.extractUsername(authorizationHeader.substring(7))).thenReturn(username);
+        ParsedToken parsedToken = new ParsedToken(username, new Date(System.currentTimeMillis() + 60000), null);
+        when(jwtService.parseOnce(authorizationHeader.substring(7))).thenReturn(parsedToken);
         when(userService.findUserByEmail(username)).thenReturn(createTestUserResponse());
-        when(jwtService.isTokenValid(authorizationHeader.substring(7), createTestUser())).thenReturn(true);
-        when(jwtService.generateToken(createTestUser())).thenReturn(expectedAccessToken);
+        when(jwtService.isTokenValid(parsedToken, createTestUser())).thenReturn(true);
+        when(jwtService.generateToken(createTestUser(), 0L)).thenReturn(expectedAccessToken);
         when(userMapper.fromResponseDTO(any(UserResponseDTO.class))).thenReturn(createTestUser());
         authenticateService.refreshToken(request, response);
 
-        verify(tokenRepository, times(1)).findAllValidTokenByUser(anyLong());
+        verify(tokenVersionCache, times(1)).increment(1L);
 
         String expectedJson = String.format("{\"access_token\":\"%s\",\"refresh_token\":\"%s\"}", expectedAccessToken, authorizationHeader.substring(7));
         assertEquals(expectedJson, response.getContentAsString());
@@ -271,26 +281,25 @@ class AuthenticationServiceImplTest {
         authenticationDTO.setEmail("john.doe@example.com");
         authenticationDTO.setPassword("password123");
 
-        User testUser = new User();
-        testUser.setId(1L);
-        testUser.setEmail(authenticationDTO.getEmail());
+        User testUser = createTestUser();
 
-        Token validToken1 = Token.builder().expired(false).revoked(false).build();
-        Token validToken2 = Token.builder().expired(false).revoked(false).build();
-
-        when(userService.findUserByEmail(authenticationDTO.getEmail())).thenReturn(createTestUserResponse());
-        when(userMapper.fromResponseDTO(createTestUserResponse())).thenReturn(createTestUser());
-        when(jwtService.generateToken(createTestUser())).thenReturn("mockedAccessToken");
-        when(jwtService.generateRefreshToken(createTestUser())).thenReturn("mockedRefreshToken");
-        when(tokenRepository.findAllValidTokenByUser(testUser.getId())).thenReturn(Arrays.asList(validToken1, validToken2));
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authenticated(testUser));
+        when(tokenVersionCache.increment(testUser.getId())).thenReturn(3L);
+        when(jwtService.generateToken(testUser, 3L)).thenReturn("mockedAccessToken");
+        when(jwtService.generateRefreshToken(testUser)).thenReturn("mockedRefreshToken");
         AuthenticationResponse response = authenticateService.authenticate(authenticationDTO);
 
         assertNotNull(response);
         assertEquals("mockedAccessToken", response.getAccessToken());
         assertEquals("mockedRefreshToken", response.getRefreshToken());
 
-        verify(tokenRepository, times(1)).saveAll(any());
-        assertTrue(validToken1.isExpired() && validToken1.isRevoked());
-        assertTrue(validToken2.isExpired() && validToken2.isRevoked());
+        verify(tokenRepository, never()).saveAll(any());
+        verify(tokenRepository, times(1)).save(argThat(token ->
+                Arrays.equals(TokenHash.of("mockedAccessToken"), token.getTokenHash()) && token.getExpiresAt() != null));
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(User user) {
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
     }
 }
@@ -0,0 +1,46 @@
+package edu.sombra.coursemanagementsystem.service.auth;
+
+import edu.sombra.coursemanagementsystem.repository.token.TokenRepository;
+import edu.sombra.coursemanagementsystem.service.auth.impl.TokenPurgeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenPurgeServiceImplTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private TokenPurgeService tokenPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        tokenPurgeService = new TokenPurgeServiceImpl(tokenRepository, BATCH_SIZE);
+    }
+
+    @Test
+    void testPurgeTokens_DeletesChunksUntilPartialBatch() {
+        when(tokenRepository.deletePurgeableTokens(any(Instant.class), eq(BATCH_SIZE))).thenReturn(2, 2, 1);
+
+        assertEquals(5, tokenPurgeService.purgeTokens());
+        verify(tokenRepository, times(3)).deletePurgeableTokens(any(Instant.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void testPurgeTokens_NothingToDelete() {
+        when(tokenRepository.deletePurgeableTokens(any(Instant.class), eq(BATCH_SIZE))).thenReturn(0);
+
+        assertEquals(0, tokenPurgeService.purgeTokens());
+        verify(tokenRepository, times(1)).deletePurgeableTokens(any(Instant.class), eq(BATCH_SIZE));
+    }
+}
@@ -0,0 +1,77 @@
+package edu.sombra.coursemanagementsystem.util;
+
+import edu.sombra.coursemanagementsystem.dto.course.UpdateCourseDTO;
+import edu.sombra.coursemanagementsystem.dto.feedback.CourseFeedbackDTO;
+import edu.sombra.coursemanagementsystem.dto.user.UpdateUserDTO;
+import edu.sombra.coursemanagementsystem.entity.Course;
+import edu.sombra.coursemanagementsystem.entity.CourseFeedback;
+import edu.sombra.coursemanagementsystem.entity.User;
+import edu.sombra.coursemanagementsystem.enums.CourseStatus;
+import edu.sombra.coursemanagementsystem.enums.RoleEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PatchUtilTest {
+
+    @Test
+    void testApplyCoursePatch_KeepsNullFields() {
+        Course course = Course.builder()
+                .id(1L)
+                .name("Course")
+                .status(CourseStatus.WAIT)
+                .startDate(LocalDate.of(2023, 1, 1))
+                .build();
+        UpdateCourseDTO patch = UpdateCourseDTO.builder()
+                .id(1L)
+                .name("New name")
+                .build();
+
+        PatchUtil.applyPatch(patch, course);
+
+        assertEquals("New name", course.getName());
+        assertEquals(CourseStatus.WAIT, course.getStatus());
+        assertEquals(LocalDate.of(2023, 1, 1), course.getStartDate());
+    }
+
+    @Test
+    void testApplyUserPatch_KeepsNullFields() {
+        User user = User.builder()
+                .id(1L)
+                .firstName("First")
+                .lastName("Last")
+                .email("user@gmail.com")
+                .password("password")
+                .role(RoleEnum.STUDENT)
+                .build();
+        UpdateUserDTO patch = UpdateUserDTO.builder()
+                .id(1L)
+                .lastName("New last")
+                .role(RoleEnum.INSTRUCTOR)
+                .build();
+
+        PatchUtil.applyPatch(patch, user);
+
+        assertEquals("First", user.getFirstName());
+        assertEquals("New last", user.getLastName());
+        assertEquals("user@gmail.com", user.getEmail());
+        assertEquals("password", user.getPassword());
+        assertEquals(RoleEnum.INSTRUCTOR, user.getRole());
+    }
+
+    @Test
+    void testApplyFeedbackPatch_UpdatesText() {
+        CourseFeedback feedback = CourseFeedback.builder()
+                .id(1L)
+                .feedbackText("Old")
+                .build();
+        CourseFeedbackDTO patch = new CourseFeedbackDTO(1L, "New", 5L, null);
+
+        PatchUtil.applyPatch(patch, feedback);
+
+        assertEquals(1L, feedback.getId());
+        assertEquals("New", feedback.getFeedbackText());
+    }
+}
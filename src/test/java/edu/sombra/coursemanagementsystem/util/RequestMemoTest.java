@@ -0,0 +1,48 @@
+package edu.sombra.coursemanagementsystem.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestMemoTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testComputeIfAbsent_LoadsOncePerRequestAndKey() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertTrue(RequestMemo.computeIfAbsent("assigned", List.of(1L, 2L), () -> loads.incrementAndGet() > 0));
+        assertTrue(RequestMemo.computeIfAbsent("assigned", List.of(1L, 2L), () -> loads.incrementAndGet() > 0));
+        assertFalse(RequestMemo.computeIfAbsent("assigned", List.of(1L, 3L), () -> loads.incrementAndGet() < 0));
+        assertFalse(RequestMemo.computeIfAbsent("assigned", List.of(1L, 3L), () -> loads.incrementAndGet() < 0));
+        assertEquals(2, loads.get());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        RequestMemo.computeIfAbsent("assigned", List.of(1L, 2L), () -> loads.incrementAndGet() > 0);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testComputeIfAbsent_OutsideRequestAlwaysLoads() {
+        AtomicInteger loads = new AtomicInteger();
+
+        RequestMemo.computeIfAbsent("assigned", List.of(1L, 2L), () -> loads.incrementAndGet() > 0);
+        RequestMemo.computeIfAbsent("assigned", List.of(1L, 2L), () -> loads.incrementAndGet() > 0);
+
+        assertEquals(2, loads.get());
+    }
+}